@@ -4,11 +4,29 @@
 
 // This convention plugin adds compilation of module-info.java with Java 9, transforming the output into a multi-release
 // JAR for supporting modules if used by Java 9+.
+//
+// Apart from module-info.java, src/main9/java may contain Java 9+ variants of classes from src/main/java. Such classes
+// replace their src/main/java counterparts in main9 compilation and are packaged into META-INF/versions/9, so that Java
+// 9+ runtimes pick them up instead of the Java 8 ones.
 
 val sourceSets = extensions.getByType<SourceSetContainer>()
 
+val mainJavaDir = file("src/main/java")
+val main9JavaDir = file("src/main9/java")
+
+val main9Overrides = main9JavaDir
+    .walkTopDown()
+    .filter { it.isFile && it.extension == "java" && it.name != "module-info.java" }
+    .map { it.relativeTo(main9JavaDir).invariantSeparatorsPath.removeSuffix(".java") }
+    .toSet()
+
 val main9SourceSet = sourceSets.create("main9") {
-    java.srcDirs("src/main9/java", "src/main/java")
+    java.srcDirs(main9JavaDir, mainJavaDir)
+    java.exclude { element ->
+        !element.isDirectory &&
+            element.file.startsWith(mainJavaDir) &&
+            element.relativePath.pathString.removeSuffix(".java") in main9Overrides
+    }
 }
 
 configurations.named(main9SourceSet.compileClasspathConfigurationName) {
@@ -26,6 +44,7 @@
     into("META-INF/versions/9") {
         from(main9SourceSet.output) {
             include("module-info.class")
+            main9Overrides.forEach { include("$it.class", "$it\$*.class") }
         }
     }
     manifest {
@@ -1,5 +1,6 @@
 import com.diffplug.spotless.LineEnding
 import internal.getBooleanProperty
+import net.ltgt.gradle.errorprone.errorprone
 
 plugins {
     id("internal.errorprone-convention")
@@ -8,6 +9,7 @@
     id("internal.java-library-convention")
     id("internal.mrjar-module-info-convention")
     id("internal.publishing-convention")
+    alias(libs.plugins.jmh)
     alias(libs.plugins.nmcp)
     alias(libs.plugins.spotless)
 }
@@ -33,6 +35,19 @@
     description = "Core library implementing Problem model according to RFC7807 (and RFC9457)"
 }
 
+// Usage:
+//   ./gradlew jmh
+//   ./gradlew jmh -Pjmh.includes=ProblemBuilderPoolBenchmark
+jmh {
+    jmhVersion = libs.versions.jmh
+    includes.addAll(providers.gradleProperty("jmh.includes").map { listOf(it) }.orElse(listOf()))
+}
+
+// Benchmarks and sources generated by JMH are not subject of static analysis.
+tasks.withType<JavaCompile>().matching { it.name.contains("jmh", ignoreCase = true) }.configureEach {
+    options.errorprone.isEnabled = false
+}
+
 nmcp {
     publishAllPublicationsToCentralPortal {
         username = System.getenv("PUBLISHING_USERNAME")
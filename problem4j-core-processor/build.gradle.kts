@@ -0,0 +1,38 @@
+plugins {
+    id("internal.errorprone-convention")
+    id("internal.jacoco-convention")
+    id("internal.java-library-convention")
+    id("internal.publishing-convention")
+    alias(libs.plugins.nmcp)
+}
+
+dependencies {
+    compileOnly(libs.jspecify)
+
+    testImplementation(project(":"))
+
+    testImplementation(platform(libs.junit.bom))
+
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platform.launcher)
+
+    testImplementation(libs.assertj.core)
+
+    errorprone(libs.errorprone.core)
+    errorprone(libs.nullaway)
+}
+
+// see build-logic/src/main/kotlin/internal.publishing-convention.gradle.kts
+internalPublishing {
+    displayName = "Problem4J Core Processor"
+    description = "Annotation processor generating reflection-free mappers for @ProblemMapping exceptions"
+}
+
+nmcp {
+    publishAllPublicationsToCentralPortal {
+        username = System.getenv("PUBLISHING_USERNAME")
+        password = System.getenv("PUBLISHING_PASSWORD")
+
+        publishingType = "USER_MANAGED"
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compile-time counterpart of the template parsing done by {@code DefaultProblemMapper}. Splits a
+ * template into literal and placeholder segments using the same rules - an opening brace, at least
+ * one character that is not a closing brace, and the nearest closing brace.
+ */
+final class MappingTemplate {
+
+  static final String MESSAGE_LABEL = "message";
+  static final String CONTEXT_LABEL_PREFIX = "context.";
+
+  private final List<Segment> segments;
+
+  private MappingTemplate(List<Segment> segments) {
+    this.segments = segments;
+  }
+
+  static MappingTemplate parse(String template) {
+    List<Segment> segments = new ArrayList<>();
+    int literalStart = 0;
+    int searchFrom = 0;
+    while (true) {
+      int open = template.indexOf('{', searchFrom);
+      if (open < 0) {
+        break;
+      }
+      int close = template.indexOf('}', open + 1);
+      if (close < 0) {
+        break;
+      }
+      if (close == open + 1) {
+        searchFrom = open + 1;
+        continue;
+      }
+      if (open > literalStart) {
+        segments.add(new Segment(Kind.LITERAL, template.substring(literalStart, open)));
+      }
+      String key = template.substring(open + 1, close);
+      if (MESSAGE_LABEL.equals(key)) {
+        segments.add(new Segment(Kind.MESSAGE, key));
+      } else if (key.startsWith(CONTEXT_LABEL_PREFIX)) {
+        segments.add(new Segment(Kind.CONTEXT, key.substring(CONTEXT_LABEL_PREFIX.length())));
+      } else {
+        segments.add(new Segment(Kind.FIELD, key));
+      }
+      literalStart = close + 1;
+      searchFrom = close + 1;
+    }
+    if (literalStart < template.length()) {
+      segments.add(new Segment(Kind.LITERAL, template.substring(literalStart)));
+    }
+    return new MappingTemplate(Collections.unmodifiableList(segments));
+  }
+
+  List<Segment> getSegments() {
+    return segments;
+  }
+
+  enum Kind {
+    LITERAL,
+    MESSAGE,
+    CONTEXT,
+    FIELD
+  }
+
+  static final class Segment {
+
+    private final Kind kind;
+    private final String value;
+
+    Segment(Kind kind, String value) {
+      this.kind = kind;
+      this.value = value;
+    }
+
+    Kind getKind() {
+      return kind;
+    }
+
+    String getValue() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core.processor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Annotation processor that generates a {@code ProblemMappingProvider} for each exception class
+ * annotated with {@code ProblemMapping}, and registers generated providers in {@code
+ * META-INF/services/io.github.problem4j.core.ProblemMappingProvider}.
+ *
+ * <p>Generated providers read fields directly and concatenate literals, so {@code
+ * DefaultProblemMapper} can map such exceptions without reflection, regular expressions or {@code
+ * setAccessible}. Because generated code lives in the package of the exception class, all fields
+ * referenced by placeholders and {@code extensions()} must be accessible from that package (that is
+ * not {@code private}). Classes that do not meet this requirement, as well as local and anonymous
+ * classes, are skipped with a note and keep being mapped reflectively.
+ *
+ * <p>For Java module system users, generated providers must additionally be declared with {@code
+ * provides io.github.problem4j.core.ProblemMappingProvider with ...} in {@code module-info.java}.
+ *
+ * @since 2.1.0
+ */
+public class ProblemMappingProcessor extends AbstractProcessor {
+
+  static final String PROBLEM_MAPPING = "io.github.problem4j.core.ProblemMapping";
+  static final String PROVIDER_INTERFACE = "io.github.problem4j.core.ProblemMappingProvider";
+  static final String SERVICE_FILE = "META-INF/services/" + PROVIDER_INTERFACE;
+  static final String PROVIDER_SUFFIX = "_ProblemMappingProvider";
+
+  private final Set<String> providers = new TreeSet<>();
+
+  /**
+   * Creates a new instance of the processor. Invoked by the compiler.
+   *
+   * @since 2.1.0
+   */
+  public ProblemMappingProcessor() {}
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(PROBLEM_MAPPING);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeServiceFile();
+      return false;
+    }
+    TypeElement annotation = processingEnv.getElementUtils().getTypeElement(PROBLEM_MAPPING);
+    if (annotation == null) {
+      return false;
+    }
+    for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+      if (element.getKind() == ElementKind.CLASS) {
+        processType((TypeElement) element);
+      }
+    }
+    return false;
+  }
+
+  private void processType(TypeElement type) {
+    if (!isThrowable(type)) {
+      return;
+    }
+    if (!isAccessible(type)) {
+      note(type, "class is not accessible from its package, it will be mapped reflectively");
+      return;
+    }
+    AnnotationMirror mapping = findMapping(type);
+    if (mapping == null) {
+      return;
+    }
+
+    Map<String, Object> values = readValues(mapping);
+    String typeTemplate = ((String) values.get("type")).trim();
+    String titleTemplate = ((String) values.get("title")).trim();
+    int status = (Integer) values.get("status");
+    String detailTemplate = ((String) values.get("detail")).trim();
+    String instanceTemplate = ((String) values.get("instance")).trim();
+    List<String> extensions = readExtensions(values.get("extensions"));
+
+    Set<String> fieldNames = new LinkedHashSet<>();
+    collectFieldNames(typeTemplate, fieldNames);
+    collectFieldNames(titleTemplate, fieldNames);
+    collectFieldNames(detailTemplate, fieldNames);
+    collectFieldNames(instanceTemplate, fieldNames);
+    fieldNames.addAll(extensions);
+
+    String exceptionName = type.getQualifiedName().toString();
+    PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+    String packageName =
+        packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+
+    Map<String, String> fieldExpressions = new LinkedHashMap<>();
+    for (String name : fieldNames) {
+      VariableElement field = findField(type, name);
+      if (field == null) {
+        continue;
+      }
+      if (!isAccessible(field, packageElement)) {
+        note(type, "field '" + name + "' is not accessible, it will be mapped reflectively");
+        return;
+      }
+      boolean isStatic = field.getModifiers().contains(Modifier.STATIC);
+      fieldExpressions.put(name, isStatic ? exceptionName + "." + name : "t." + name);
+    }
+
+    String providerName = toProviderName(type);
+    String qualifiedProviderName =
+        packageName.isEmpty() ? providerName : packageName + "." + providerName;
+    String source =
+        new ProviderWriter(packageName, providerName, exceptionName, fieldExpressions)
+            .write(
+                typeTemplate, titleTemplate, status, detailTemplate, instanceTemplate, extensions);
+
+    try {
+      JavaFileObject file =
+          processingEnv.getFiler().createSourceFile(qualifiedProviderName, type);
+      try (Writer writer = file.openWriter()) {
+        writer.write(source);
+      }
+      providers.add(qualifiedProviderName);
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR,
+              "Failed to write " + qualifiedProviderName + ": " + e.getMessage(),
+              type);
+    }
+  }
+
+  private boolean isThrowable(TypeElement type) {
+    TypeElement throwable = processingEnv.getElementUtils().getTypeElement("java.lang.Throwable");
+    return throwable != null
+        && processingEnv.getTypeUtils().isSubtype(type.asType(), throwable.asType());
+  }
+
+  private static boolean isAccessible(TypeElement type) {
+    Element current = type;
+    while (current instanceof TypeElement) {
+      TypeElement currentType = (TypeElement) current;
+      NestingKind nesting = currentType.getNestingKind();
+      if (nesting != NestingKind.TOP_LEVEL && nesting != NestingKind.MEMBER) {
+        return false;
+      }
+      if (currentType.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      current = currentType.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private boolean isAccessible(VariableElement field, PackageElement packageElement) {
+    Set<Modifier> modifiers = field.getModifiers();
+    if (modifiers.contains(Modifier.PRIVATE)) {
+      return false;
+    }
+    if (modifiers.contains(Modifier.PUBLIC)) {
+      return true;
+    }
+    return processingEnv.getElementUtils().getPackageOf(field).equals(packageElement);
+  }
+
+  private @Nullable AnnotationMirror findMapping(TypeElement type) {
+    for (AnnotationMirror mirror : processingEnv.getElementUtils().getAllAnnotationMirrors(type)) {
+      Element annotationType = mirror.getAnnotationType().asElement();
+      if (annotationType instanceof TypeElement
+          && ((TypeElement) annotationType).getQualifiedName().contentEquals(PROBLEM_MAPPING)) {
+        return mirror;
+      }
+    }
+    return null;
+  }
+
+  private Map<String, Object> readValues(AnnotationMirror mapping) {
+    Elements elements = processingEnv.getElementUtils();
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+        elements.getElementValuesWithDefaults(mapping).entrySet()) {
+      values.put(entry.getKey().getSimpleName().toString(), entry.getValue().getValue());
+    }
+    return values;
+  }
+
+  private static List<String> readExtensions(@Nullable Object value) {
+    List<String> extensions = new ArrayList<>();
+    if (value instanceof List) {
+      for (Object item : (List<?>) value) {
+        Object name = item instanceof AnnotationValue ? ((AnnotationValue) item).getValue() : item;
+        String trimmed = String.valueOf(name).trim();
+        if (!trimmed.isEmpty()) {
+          extensions.add(trimmed);
+        }
+      }
+    }
+    return extensions;
+  }
+
+  private static void collectFieldNames(String template, Set<String> fieldNames) {
+    for (MappingTemplate.Segment segment : MappingTemplate.parse(template).getSegments()) {
+      if (segment.getKind() == MappingTemplate.Kind.FIELD) {
+        fieldNames.add(segment.getValue());
+      }
+    }
+  }
+
+  /**
+   * Finds a field by name in the class hierarchy, starting from the given type, the same way as
+   * {@code DefaultProblemMapper} does at runtime.
+   */
+  private static @Nullable VariableElement findField(TypeElement type, String name) {
+    TypeElement search = type;
+    while (search != null && !search.getQualifiedName().contentEquals("java.lang.Object")) {
+      for (VariableElement field : ElementFilter.fieldsIn(search.getEnclosedElements())) {
+        if (field.getSimpleName().contentEquals(name)) {
+          return field;
+        }
+      }
+      TypeMirror superclass = search.getSuperclass();
+      search =
+          superclass.getKind() == TypeKind.DECLARED
+              ? (TypeElement) ((DeclaredType) superclass).asElement()
+              : null;
+    }
+    return null;
+  }
+
+  private static String toProviderName(TypeElement type) {
+    StringBuilder name = new StringBuilder(type.getSimpleName());
+    Element enclosing = type.getEnclosingElement();
+    while (enclosing instanceof TypeElement) {
+      name.insert(0, '_').insert(0, enclosing.getSimpleName());
+      enclosing = enclosing.getEnclosingElement();
+    }
+    return name.append(PROVIDER_SUFFIX).toString();
+  }
+
+  private void writeServiceFile() {
+    if (providers.isEmpty()) {
+      return;
+    }
+    Filer filer = processingEnv.getFiler();
+    Set<String> entries = new TreeSet<>(providers);
+    try {
+      FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+      try (Reader reader =
+          new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8)) {
+        readServiceEntries(new BufferedReader(reader), entries);
+      }
+    } catch (IOException e) {
+      // ignored - no service file from a previous compilation
+    }
+    try {
+      FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+      try (Writer writer = file.openWriter()) {
+        for (String entry : entries) {
+          writer.write(entry);
+          writer.write('\n');
+        }
+      }
+    } catch (IOException e) {
+      processingEnv
+          .getMessager()
+          .printMessage(
+              Diagnostic.Kind.ERROR, "Failed to write " + SERVICE_FILE + ": " + e.getMessage());
+    }
+  }
+
+  private static void readServiceEntries(BufferedReader reader, Set<String> entries)
+      throws IOException {
+    String line;
+    while ((line = reader.readLine()) != null) {
+      int comment = line.indexOf('#');
+      String entry = (comment >= 0 ? line.substring(0, comment) : line).trim();
+      if (!entry.isEmpty()) {
+        entries.add(entry);
+      }
+    }
+  }
+
+  private void note(Element element, String message) {
+    processingEnv
+        .getMessager()
+        .printMessage(Diagnostic.Kind.NOTE, "@ProblemMapping: " + message, element);
+  }
+}
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core.processor;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders the source code of a {@code ProblemMappingProvider} for a single exception class. The
+ * generated code follows the same rules as {@code DefaultProblemMapper}, but reads fields directly
+ * and concatenates literals instead of interpolating templates at runtime.
+ */
+final class ProviderWriter {
+
+  private final String packageName;
+  private final String providerName;
+  private final String exceptionName;
+  private final Map<String, String> fieldExpressions;
+
+  private boolean usesStr;
+  private boolean usesContext;
+  private boolean usesIsPresent;
+
+  /**
+   * @param packageName package of the generated provider (empty for the default package)
+   * @param providerName simple name of the generated provider
+   * @param exceptionName canonical name of the mapped exception class
+   * @param fieldExpressions Java expressions reading each resolvable field, by field name; fields
+   *     not present in this map are treated as missing
+   */
+  ProviderWriter(
+      String packageName,
+      String providerName,
+      String exceptionName,
+      Map<String, String> fieldExpressions) {
+    this.packageName = packageName;
+    this.providerName = providerName;
+    this.exceptionName = exceptionName;
+    this.fieldExpressions = fieldExpressions;
+  }
+
+  String write(
+      String type,
+      String title,
+      int status,
+      String detail,
+      String instance,
+      List<String> extensions) {
+    StringBuilder body = new StringBuilder();
+    StringBuilder constants = new StringBuilder();
+
+    appendUri(body, constants, "type", "TYPE", type);
+    appendText(body, "title", title);
+    if (status > 0) {
+      body.append("    builder.status(").append(status).append(");\n");
+    }
+    appendText(body, "detail", detail);
+    appendUri(body, constants, "instance", "INSTANCE", instance);
+    appendExtensions(body, extensions);
+
+    StringBuilder source = new StringBuilder();
+    source
+        .append("// Generated by problem4j-core-processor from @ProblemMapping of ")
+        .append(exceptionName)
+        .append(". Do not edit.\n");
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source.append("import io.github.problem4j.core.Problem;\n");
+    source.append("import io.github.problem4j.core.ProblemBuilder;\n");
+    source.append("import io.github.problem4j.core.ProblemContext;\n");
+    source.append("import io.github.problem4j.core.ProblemMappingProvider;\n");
+    if (constants.length() > 0) {
+      source.append("import java.net.URI;\n");
+    }
+    source.append("import org.jspecify.annotations.Nullable;\n\n");
+
+    source
+        .append("public final class ")
+        .append(providerName)
+        .append(" implements ProblemMappingProvider {\n\n");
+    if (constants.length() > 0) {
+      source.append(constants).append('\n');
+    }
+    source.append("  public ").append(providerName).append("() {}\n\n");
+
+    source.append("  @Override\n");
+    source.append("  public Class<? extends Throwable> getExceptionType() {\n");
+    source.append("    return ").append(exceptionName).append(".class;\n");
+    source.append("  }\n\n");
+
+    source.append("  @Override\n");
+    source.append(
+        "  public ProblemBuilder toProblemBuilder(Throwable throwable, @Nullable ProblemContext"
+            + " context) {\n");
+    source
+        .append("    ")
+        .append(exceptionName)
+        .append(" t = (")
+        .append(exceptionName)
+        .append(") throwable;\n");
+    source.append("    ProblemBuilder builder = Problem.builder();\n");
+    source.append(body);
+    source.append("    return builder;\n");
+    source.append("  }\n");
+
+    if (usesStr) {
+      source.append('\n');
+      source.append("  private static String str(@Nullable Object value) {\n");
+      source.append("    return value != null ? String.valueOf(value) : \"\";\n");
+      source.append("  }\n");
+    }
+    if (usesContext) {
+      source.append('\n');
+      source.append(
+          "  private static String context(@Nullable ProblemContext context, String key) {\n");
+      source.append("    String value = context != null ? context.get(key) : null;\n");
+      source.append("    return value != null ? value : \"\";\n");
+      source.append("  }\n");
+    }
+    if (usesIsPresent) {
+      source.append('\n');
+      source.append("  private static boolean isPresent(@Nullable Object value) {\n");
+      source.append("    return value != null\n");
+      source.append("        && !(value instanceof String && ((String) value).isEmpty());\n");
+      source.append("  }\n");
+    }
+    source.append("}\n");
+    return source.toString();
+  }
+
+  private void appendUri(
+      StringBuilder body, StringBuilder constants, String name, String constant, String raw) {
+    if (raw.isEmpty()) {
+      return;
+    }
+    List<Part> parts = toParts(raw);
+    if (parts.isEmpty()) {
+      return;
+    }
+    if (isLiteral(parts)) {
+      String literal = parts.get(0).text;
+      if (isValidUri(literal)) {
+        constants
+            .append("  private static final URI ")
+            .append(constant)
+            .append(" = URI.create(")
+            .append(quote(literal))
+            .append(");\n");
+        body.append("    builder.").append(name).append('(').append(constant).append(");\n");
+      }
+      return;
+    }
+    body.append("    String ").append(name).append(" = ").append(join(parts)).append(";\n");
+    body.append("    if (!").append(name).append(".isEmpty()) {\n");
+    body.append("      try {\n");
+    body.append("        builder.").append(name).append('(').append(name).append(");\n");
+    body.append("      } catch (IllegalArgumentException e) {\n");
+    body.append("        // ignored - if URI is invalid let not fail\n");
+    body.append("      }\n");
+    body.append("    }\n");
+  }
+
+  private void appendText(StringBuilder body, String name, String raw) {
+    if (raw.isEmpty()) {
+      return;
+    }
+    List<Part> parts = toParts(raw);
+    if (parts.isEmpty()) {
+      return;
+    }
+    if (isLiteral(parts)) {
+      body.append("    builder.").append(name).append('(').append(quote(parts.get(0).text));
+      body.append(");\n");
+      return;
+    }
+    body.append("    String ").append(name).append(" = ").append(join(parts)).append(";\n");
+    body.append("    if (!").append(name).append(".isEmpty()) {\n");
+    body.append("      builder.").append(name).append('(').append(name).append(");\n");
+    body.append("    }\n");
+  }
+
+  private void appendExtensions(StringBuilder body, List<String> extensions) {
+    int index = 0;
+    for (String extension : extensions) {
+      String expression = fieldExpressions.get(extension);
+      if (extension.isEmpty() || expression == null) {
+        continue;
+      }
+      usesIsPresent = true;
+      String variable = "extension" + index++;
+      body.append("    Object ").append(variable).append(" = ").append(expression).append(";\n");
+      body.append("    if (isPresent(").append(variable).append(")) {\n");
+      body.append("      builder.extension(")
+          .append(quote(extension))
+          .append(", ")
+          .append(variable)
+          .append(");\n");
+      body.append("    }\n");
+    }
+  }
+
+  /**
+   * Converts template into a list of parts, merging adjacent literals. Missing fields are dropped,
+   * as they always resolve to an empty string.
+   */
+  private List<Part> toParts(String raw) {
+    List<Part> parts = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    for (MappingTemplate.Segment segment : MappingTemplate.parse(raw).getSegments()) {
+      switch (segment.getKind()) {
+        case LITERAL:
+          literal.append(segment.getValue());
+          break;
+        case MESSAGE:
+          flushLiteral(parts, literal);
+          usesStr = true;
+          parts.add(Part.expression("str(t.getMessage())"));
+          break;
+        case CONTEXT:
+          flushLiteral(parts, literal);
+          usesContext = true;
+          parts.add(Part.expression("context(context, " + quote(segment.getValue()) + ")"));
+          break;
+        default:
+          String expression = fieldExpressions.get(segment.getValue());
+          if (expression != null) {
+            flushLiteral(parts, literal);
+            usesStr = true;
+            parts.add(Part.expression("str(" + expression + ")"));
+          }
+          break;
+      }
+    }
+    flushLiteral(parts, literal);
+    return parts;
+  }
+
+  private static void flushLiteral(List<Part> parts, StringBuilder literal) {
+    if (literal.length() > 0) {
+      parts.add(Part.literal(literal.toString()));
+      literal.setLength(0);
+    }
+  }
+
+  private static boolean isLiteral(List<Part> parts) {
+    return parts.size() == 1 && parts.get(0).literal;
+  }
+
+  private static String join(List<Part> parts) {
+    StringBuilder sb = new StringBuilder();
+    for (Part part : parts) {
+      if (sb.length() > 0) {
+        sb.append(" + ");
+      }
+      sb.append(part.literal ? quote(part.text) : part.text);
+    }
+    return sb.toString();
+  }
+
+  private static boolean isValidUri(String value) {
+    try {
+      new URI(value);
+      return true;
+    } catch (URISyntaxException e) {
+      return false;
+    }
+  }
+
+  static String quote(String value) {
+    StringBuilder sb = new StringBuilder(value.length() + 2);
+    sb.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20 || c > 0x7e) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+          break;
+      }
+    }
+    return sb.append('"').toString();
+  }
+
+  private static final class Part {
+
+    private final boolean literal;
+    private final String text;
+
+    private Part(boolean literal, String text) {
+      this.literal = literal;
+      this.text = text;
+    }
+
+    static Part literal(String value) {
+      return new Part(true, value);
+    }
+
+    static Part expression(String expression) {
+      return new Part(false, expression);
+    }
+  }
+}
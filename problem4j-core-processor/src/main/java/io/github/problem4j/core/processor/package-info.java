@@ -0,0 +1,30 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Annotation processor generating reflection-free {@code ProblemMappingProvider} implementations
+ * for exception classes annotated with {@code ProblemMapping}.
+ *
+ * <p>Generated providers are registered in {@code
+ * META-INF/services/io.github.problem4j.core.ProblemMappingProvider} and picked up by {@code
+ * DefaultProblemMapper} at runtime.
+ *
+ * @see io.github.problem4j.core.processor.ProblemMappingProcessor
+ */
+@NullMarked
+package io.github.problem4j.core.processor;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MappingTemplateTest {
+
+  @Test
+  void givenTemplateWithPlaceholders_whenParse_thenSplitsIntoSegments() {
+    List<MappingTemplate.Segment> segments =
+        MappingTemplate.parse("a {message} b {context.traceId} c {field}").getSegments();
+
+    assertThat(segments).hasSize(6);
+    assertSegment(segments.get(0), MappingTemplate.Kind.LITERAL, "a ");
+    assertSegment(segments.get(1), MappingTemplate.Kind.MESSAGE, "message");
+    assertSegment(segments.get(2), MappingTemplate.Kind.LITERAL, " b ");
+    assertSegment(segments.get(3), MappingTemplate.Kind.CONTEXT, "traceId");
+    assertSegment(segments.get(4), MappingTemplate.Kind.LITERAL, " c ");
+    assertSegment(segments.get(5), MappingTemplate.Kind.FIELD, "field");
+  }
+
+  @Test
+  void givenEmptyBraces_whenParse_thenKeepsThemLiteral() {
+    List<MappingTemplate.Segment> segments =
+        MappingTemplate.parse("before{}after {x}").getSegments();
+
+    assertThat(segments).hasSize(2);
+    assertSegment(segments.get(0), MappingTemplate.Kind.LITERAL, "before{}after ");
+    assertSegment(segments.get(1), MappingTemplate.Kind.FIELD, "x");
+  }
+
+  @Test
+  void givenUnclosedPlaceholder_whenParse_thenKeepsItLiteral() {
+    List<MappingTemplate.Segment> segments = MappingTemplate.parse("Bad {notClosed").getSegments();
+
+    assertThat(segments).hasSize(1);
+    assertSegment(segments.get(0), MappingTemplate.Kind.LITERAL, "Bad {notClosed");
+  }
+
+  @Test
+  void givenEmptyTemplate_whenParse_thenHasNoSegments() {
+    assertThat(MappingTemplate.parse("").getSegments()).isEmpty();
+  }
+
+  private static void assertSegment(
+      MappingTemplate.Segment segment, MappingTemplate.Kind kind, String value) {
+    assertThat(segment.getKind()).isEqualTo(kind);
+    assertThat(segment.getValue()).isEqualTo(value);
+  }
+}
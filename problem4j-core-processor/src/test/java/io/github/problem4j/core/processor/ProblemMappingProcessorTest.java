@@ -0,0 +1,290 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.DefaultProblemMapper;
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemMappingProvider;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProblemMappingProcessorTest {
+
+  private static final String SERVICE_FILE =
+      "META-INF/services/io.github.problem4j.core.ProblemMappingProvider";
+
+  @TempDir private Path tempDir;
+
+  @Test
+  void givenAnnotatedException_whenCompiling_thenGeneratedProviderMatchesReflectiveMapping()
+      throws Exception {
+    Compilation compilation =
+        compile(
+            Map.of(
+                "com/acme/OutOfStockException.java",
+                """
+                package com.acme;
+
+                import io.github.problem4j.core.ProblemMapping;
+
+                @ProblemMapping(
+                    type = "https://errors.example.com/out-of-stock",
+                    title = "Out of stock",
+                    status = 409,
+                    detail =
+                        "Item {sku} is out of stock ({count} left), "
+                            + "trace {context.traceId}: {message}",
+                    instance = "https://errors.example.com/items/{sku}",
+                    extensions = {"sku", "count", "zone", "missing", " "})
+                public class OutOfStockException extends RuntimeException {
+                  final String sku;
+                  protected int count;
+                  public static String zone = "eu";
+
+                  public OutOfStockException(String sku, int count) {
+                    super("no \\"more\\" items");
+                    this.sku = sku;
+                    this.count = count;
+                  }
+                }
+                """));
+
+    assertThat(compilation.success()).isTrue();
+    assertThat(compilation.serviceFile())
+        .containsExactly("com.acme.OutOfStockException_ProblemMappingProvider");
+
+    Throwable t =
+        (Throwable)
+            compilation
+                .loadClass("com.acme.OutOfStockException")
+                .getConstructor(String.class, int.class)
+                .newInstance("S-1", 3);
+    ProblemMappingProvider provider =
+        compilation.newProvider("com.acme.OutOfStockException_ProblemMappingProvider");
+    ProblemContext context = ProblemContext.create().put("traceId", "T-1");
+
+    assertThat(provider.getExceptionType()).isSameAs(t.getClass());
+    Problem generated = provider.toProblemBuilder(t, context).build();
+    Problem reflective = new DefaultProblemMapper().toProblemBuilder(t, context).build();
+    assertThat(generated).isEqualTo(reflective);
+    assertThat(generated.getDetail())
+        .isEqualTo("Item S-1 is out of stock (3 left), trace T-1: no \"more\" items");
+  }
+
+  @Test
+  void givenInvalidAndEmptyValues_whenCompiling_thenGeneratedProviderMatchesReflectiveMapping()
+      throws Exception {
+    Compilation compilation =
+        compile(
+            Map.of(
+                "com/acme/InvalidException.java",
+                """
+                package com.acme;
+
+                import io.github.problem4j.core.ProblemMapping;
+
+                @ProblemMapping(
+                    type = "ht tp://invalid",
+                    title = "{missing}",
+                    status = 500,
+                    detail = "{empty}{}",
+                    instance = "{value}",
+                    extensions = {"empty", "value"})
+                public class InvalidException extends RuntimeException {
+                  String empty = "";
+                  String value = "a b";
+                }
+                """));
+
+    assertThat(compilation.success()).isTrue();
+
+    Throwable t =
+        (Throwable)
+            compilation.loadClass("com.acme.InvalidException").getConstructor().newInstance();
+    ProblemMappingProvider provider =
+        compilation.newProvider("com.acme.InvalidException_ProblemMappingProvider");
+
+    Problem generated = provider.toProblemBuilder(t, null).build();
+    Problem reflective = new DefaultProblemMapper().toProblemBuilder(t, null).build();
+    assertThat(generated).isEqualTo(reflective);
+    assertThat(generated.getType()).isEqualTo(Problem.BLANK_TYPE);
+    assertThat(generated.getInstance()).isNull();
+  }
+
+  @Test
+  void givenNestedException_whenCompiling_thenProviderNameIncludesEnclosingClass()
+      throws Exception {
+    Compilation compilation =
+        compile(
+            Map.of(
+                "com/acme/Errors.java",
+                """
+                package com.acme;
+
+                import io.github.problem4j.core.ProblemMapping;
+
+                public class Errors {
+
+                  @ProblemMapping(title = "Nested", status = 400)
+                  public static class NestedException extends RuntimeException {}
+                }
+                """));
+
+    assertThat(compilation.success()).isTrue();
+    assertThat(compilation.serviceFile())
+        .containsExactly("com.acme.Errors_NestedException_ProblemMappingProvider");
+  }
+
+  @Test
+  void givenPrivateField_whenCompiling_thenSkipsClassWithNote() throws Exception {
+    Compilation compilation =
+        compile(
+            Map.of(
+                "com/acme/PrivateException.java",
+                """
+                package com.acme;
+
+                import io.github.problem4j.core.ProblemMapping;
+
+                @ProblemMapping(title = "Private {secret}", status = 400)
+                public class PrivateException extends RuntimeException {
+                  private String secret = "s";
+                }
+                """));
+
+    assertThat(compilation.success()).isTrue();
+    assertThat(compilation.serviceFile()).isEmpty();
+    assertThat(compilation.notes()).anyMatch(note -> note.contains("'secret'"));
+  }
+
+  @Test
+  void givenAnnotatedNonThrowable_whenCompiling_thenSkipsClass() throws Exception {
+    Compilation compilation =
+        compile(
+            Map.of(
+                "com/acme/NotAnException.java",
+                """
+                package com.acme;
+
+                import io.github.problem4j.core.ProblemMapping;
+
+                @ProblemMapping(title = "Not an exception")
+                public class NotAnException {}
+                """));
+
+    assertThat(compilation.success()).isTrue();
+    assertThat(compilation.serviceFile()).isEmpty();
+  }
+
+  private Compilation compile(Map<String, String> sources) throws IOException {
+    Path sourceDir = Files.createDirectories(tempDir.resolve("src"));
+    Path outputDir = Files.createDirectories(tempDir.resolve("out"));
+    List<Path> files = new ArrayList<>();
+    for (Map.Entry<String, String> source : sources.entrySet()) {
+      Path file = sourceDir.resolve(source.getKey());
+      Files.createDirectories(file.getParent());
+      Files.writeString(file, source.getValue());
+      files.add(file);
+    }
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(
+              null,
+              fileManager,
+              diagnostics,
+              List.of(
+                  "-classpath",
+                  System.getProperty("java.class.path"),
+                  "-d",
+                  outputDir.toString(),
+                  "-s",
+                  outputDir.toString()),
+              null,
+              fileManager.getJavaFileObjectsFromPaths(files));
+      task.setProcessors(List.of(new ProblemMappingProcessor()));
+      boolean success = task.call();
+      return new Compilation(success, outputDir, diagnostics.getDiagnostics());
+    }
+  }
+
+  private static final class Compilation {
+
+    private final boolean success;
+    private final Path outputDir;
+    private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+    private final ClassLoader classLoader;
+
+    private Compilation(
+        boolean success, Path outputDir, List<Diagnostic<? extends JavaFileObject>> diagnostics)
+        throws IOException {
+      this.success = success;
+      this.outputDir = outputDir;
+      this.diagnostics = diagnostics;
+      this.classLoader =
+          new URLClassLoader(
+              new URL[] {outputDir.toUri().toURL()},
+              ProblemMappingProcessorTest.class.getClassLoader());
+    }
+
+    boolean success() {
+      return success;
+    }
+
+    List<String> serviceFile() throws IOException {
+      Path file = outputDir.resolve(SERVICE_FILE);
+      return Files.exists(file) ? Files.readAllLines(file) : List.of();
+    }
+
+    List<String> notes() {
+      return diagnostics.stream()
+          .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.NOTE)
+          .map(diagnostic -> diagnostic.getMessage(Locale.ROOT))
+          .toList();
+    }
+
+    Class<?> loadClass(String name) throws ClassNotFoundException {
+      return classLoader.loadClass(name);
+    }
+
+    ProblemMappingProvider newProvider(String name) throws ReflectiveOperationException {
+      return (ProblemMappingProvider) loadClass(name).getConstructor().newInstance();
+    }
+  }
+}
@@ -18,3 +18,5 @@
 }
 
 rootProject.name = "problem4j-core"
+
+include("problem4j-core-processor")
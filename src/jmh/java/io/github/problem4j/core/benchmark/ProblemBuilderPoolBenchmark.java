@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core.benchmark;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemBuilder;
+import io.github.problem4j.core.ProblemBuilderPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building validation problems with fresh builders against builders reused from {@link
+ * ProblemBuilderPool}. Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProblemBuilderPoolBenchmark {
+
+  private static final String[] EXTENSION_NAMES = {
+    "field", "code", "rejected", "path", "min", "max", "pattern", "group"
+  };
+
+  @Param({"0", "2", "8"})
+  public int extensions;
+
+  private final ProblemBuilderPool pool = ProblemBuilderPool.create();
+
+  @Benchmark
+  public Problem freshBuilder() {
+    return configure(Problem.builder());
+  }
+
+  @Benchmark
+  public Problem pooledBuilder() {
+    ProblemBuilder builder = pool.acquire();
+    try {
+      return configure(builder);
+    } finally {
+      pool.release(builder);
+    }
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Problem freshBuilderContended() {
+    return configure(Problem.builder());
+  }
+
+  @Benchmark
+  @Threads(8)
+  public Problem pooledBuilderContended() {
+    ProblemBuilder builder = pool.acquire();
+    try {
+      return configure(builder);
+    } finally {
+      pool.release(builder);
+    }
+  }
+
+  private Problem configure(ProblemBuilder builder) {
+    builder.title("Validation Failed").status(400).detail("request payload is invalid");
+    for (int i = 0; i < extensions; i++) {
+      builder.extension(EXTENSION_NAMES[i], i);
+    }
+    return builder.build();
+  }
+}
@@ -16,12 +16,10 @@
 
 package io.github.problem4j.core;
 
-import static java.util.Collections.unmodifiableMap;
-
 import java.io.Serializable;
 import java.net.URI;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import org.jspecify.annotations.Nullable;
 
 final class DefaultProblem implements Problem, Serializable {
@@ -47,7 +45,7 @@ final class DefaultProblem implements Problem, Serializable {
     this.status = status;
     this.detail = detail;
     this.instance = instance;
-    this.extensions = extensions != null ? new HashMap<>(extensions) : new HashMap<>();
+    this.extensions = ExtensionMap.copyOf(extensions);
   }
 
   @Override
@@ -77,7 +75,72 @@ public int getStatus() {
 
   @Override
   public Map<String, Object> getExtensions() {
-    return unmodifiableMap(extensions);
+    return extensions;
+  }
+
+  @Override
+  public <T> @Nullable T getExtension(ExtensionKey<T> key) {
+    return extensions instanceof ExtensionMap
+        ? ((ExtensionMap) extensions).getKeyed(key)
+        : Problem.super.getExtension(key);
+  }
+
+  @Override
+  public long getLongExtension(String name, long defaultValue) {
+    return extensions instanceof ExtensionMap
+        ? ((ExtensionMap) extensions).getLong(name, defaultValue)
+        : Problem.super.getLongExtension(name, defaultValue);
+  }
+
+  @Override
+  public int getIntExtension(String name, int defaultValue) {
+    return extensions instanceof ExtensionMap
+        ? ((ExtensionMap) extensions).getInt(name, defaultValue)
+        : Problem.super.getIntExtension(name, defaultValue);
+  }
+
+  @Override
+  public double getDoubleExtension(String name, double defaultValue) {
+    return extensions instanceof ExtensionMap
+        ? ((ExtensionMap) extensions).getDouble(name, defaultValue)
+        : Problem.super.getDoubleExtension(name, defaultValue);
+  }
+
+  @Override
+  public boolean getBooleanExtension(String name, boolean defaultValue) {
+    return extensions instanceof ExtensionMap
+        ? ((ExtensionMap) extensions).getBoolean(name, defaultValue)
+        : Problem.super.getBooleanExtension(name, defaultValue);
+  }
+
+  @Override
+  public Problem withDetail(@Nullable String detail) {
+    if (Objects.equals(this.detail, detail)) {
+      return this;
+    }
+    return new DefaultProblem(type, title, status, detail, instance, extensions);
+  }
+
+  @Override
+  public Problem withInstance(@Nullable URI instance) {
+    if (Objects.equals(this.instance, instance)) {
+      return this;
+    }
+    return new DefaultProblem(type, title, status, detail, instance, extensions);
+  }
+
+  // The derived extensions map shares unchanged state with the map of this problem, see
+  // ExtensionMap.with().
+  @Override
+  public Problem withExtension(String name, @Nullable Object value) {
+    if (!(extensions instanceof ExtensionMap)) {
+      return Problem.super.withExtension(name, value);
+    }
+    Map<String, Object> extensions = ((ExtensionMap) this.extensions).with(name, value);
+    if (extensions == this.extensions) {
+      return this;
+    }
+    return new DefaultProblem(type, title, status, detail, instance, extensions);
   }
 
   @Override
@@ -101,6 +164,11 @@ public String toString() {
     return ProblemSupport.toString("Problem", this);
   }
 
+  // Extensions are serialized as a HashMap, which is replaced with a compact copy here.
+  private Object readResolve() {
+    return new DefaultProblem(type, title, status, detail, instance, extensions);
+  }
+
   static final class DefaultExtension implements Extension {
 
     private final String name;
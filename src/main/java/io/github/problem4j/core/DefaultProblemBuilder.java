@@ -19,18 +19,25 @@
 import static io.github.problem4j.core.ProblemSupport.isTypeBlank;
 import static io.github.problem4j.core.ProblemSupport.isTypeNonBlank;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.net.URI;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.jspecify.annotations.Nullable;
 
 final class DefaultProblemBuilder implements ProblemBuilder, Serializable {
 
   private static final long serialVersionUID = 2L;
 
+  private static final AtomicReferenceFieldUpdater<DefaultProblemBuilder, ProblemBuilderPool>
+      OWNER =
+          AtomicReferenceFieldUpdater.newUpdater(
+              DefaultProblemBuilder.class, ProblemBuilderPool.class, "owner");
+
   private final StatusTitleResolver statusTitleResolver;
 
   private @Nullable URI type = null;
@@ -38,7 +45,30 @@ final class DefaultProblemBuilder implements ProblemBuilder, Serializable {
   private int status = 0;
   private @Nullable String detail = null;
   private @Nullable URI instance = null;
-  private final Map<String, Object> extensions = new HashMap<>();
+  private Map<String, Object> extensions = new HashMap<>();
+
+  // Values of extensions set by ExtensionKey, indexed by ExtensionKey.getIndex(). Names of these
+  // extensions are never present in the extensions map. Not serialized, as slot indexes depend on
+  // the order of registration, see writeObject().
+  private transient @Nullable Object @Nullable [] keyed = null;
+
+  // Extensions set with primitive values, stored unboxed. Names of these extensions are never
+  // present in the extensions map nor among the values set by ExtensionKey. Not serialized, as they
+  // are written by name, see writeObject().
+  private transient @Nullable PrimitiveExtensions primitives = null;
+
+  // Single-use mode, in which build() hands the extensions map over to the built problem.
+  private boolean oneShot = false;
+
+  // Whether the extensions map is owned by a built problem and must be copied before modification.
+  private transient boolean extensionsShared = false;
+
+  // Problem already built from the current state, returned by build() until this builder is
+  // modified. Shared by copies of a prebuilt builder, see prebuild().
+  private transient @Nullable Problem prebuilt = null;
+
+  // Pool that handed this builder out by acquire() and has not got it back yet, null otherwise.
+  private transient volatile @Nullable ProblemBuilderPool owner = null;
 
   DefaultProblemBuilder() {
     this(StatusTitleSupport.getResolver());
@@ -58,38 +88,72 @@ final class DefaultProblemBuilder implements ProblemBuilder, Serializable {
     this.statusTitleResolver = statusTitleResolver;
   }
 
+  // Copies the state of the given builder, including the problem built by prebuild().
+  DefaultProblemBuilder(DefaultProblemBuilder builder) {
+    this(builder.statusTitleResolver);
+    this.type = builder.type;
+    this.title = builder.title;
+    this.status = builder.status;
+    this.detail = builder.detail;
+    this.instance = builder.instance;
+    this.extensions.putAll(builder.extensions);
+    this.keyed = builder.keyed != null ? builder.keyed.clone() : null;
+    this.primitives = builder.primitives != null ? builder.primitives.copy() : null;
+    this.prebuilt = builder.prebuilt;
+  }
+
   @Override
   public ProblemBuilder type(@Nullable URI type) {
     this.type = type;
+    this.prebuilt = null;
     return this;
   }
 
   @Override
   public ProblemBuilder title(@Nullable String title) {
     this.title = title;
+    this.prebuilt = null;
     return this;
   }
 
   @Override
   public ProblemBuilder status(int status) {
     this.status = status;
+    this.prebuilt = null;
     return this;
   }
 
   @Override
   public ProblemBuilder detail(@Nullable String detail) {
     this.detail = detail;
+    this.prebuilt = null;
     return this;
   }
 
   @Override
   public ProblemBuilder instance(@Nullable URI instance) {
     this.instance = instance;
+    this.prebuilt = null;
     return this;
   }
 
   @Override
   public ProblemBuilder extension(String name, @Nullable Object value) {
+    this.prebuilt = null;
+    if (primitives != null) {
+      primitives.remove(name);
+    }
+    ownExtensions();
+    // registered names are looked up only once typed keys are in use by this builder
+    ExtensionKey<?> key = keyed != null ? ExtensionKey.find(name) : null;
+    if (key != null) {
+      boolean typed = key.getType().isInstance(value);
+      setKeyed(key.getIndex(), typed ? value : null);
+      if (typed) {
+        extensions.remove(name);
+        return this;
+      }
+    }
     if (value != null) {
       extensions.put(name, value);
     } else {
@@ -98,8 +162,151 @@ public ProblemBuilder extension(String name, @Nullable Object value) {
     return this;
   }
 
+  @Override
+  public <T> ProblemBuilder extension(ExtensionKey<T> key, @Nullable T value) {
+    if (key.getIndex() == ExtensionKey.UNINDEXED) {
+      return extension(key.getName(), value);
+    }
+    this.prebuilt = null;
+    if (!extensions.isEmpty()) {
+      ownExtensions();
+      extensions.remove(key.getName());
+    }
+    if (primitives != null) {
+      primitives.remove(key.getName());
+    }
+    setKeyed(key.getIndex(), value);
+    return this;
+  }
+
+  @Override
+  public ProblemBuilder extension(String name, long value) {
+    return primitiveExtension(name, PrimitiveExtensions.LONG, value);
+  }
+
+  @Override
+  public ProblemBuilder extension(String name, int value) {
+    return primitiveExtension(name, PrimitiveExtensions.INT, value);
+  }
+
+  @Override
+  public ProblemBuilder extension(String name, double value) {
+    return primitiveExtension(name, PrimitiveExtensions.DOUBLE, Double.doubleToRawLongBits(value));
+  }
+
+  @Override
+  public ProblemBuilder extension(String name, boolean value) {
+    return primitiveExtension(name, PrimitiveExtensions.BOOLEAN, value ? 1 : 0);
+  }
+
+  @Override
+  public ProblemBuilder extension(String name, byte value) {
+    return primitiveExtension(name, PrimitiveExtensions.BYTE, value);
+  }
+
+  @Override
+  public ProblemBuilder extension(String name, short value) {
+    return primitiveExtension(name, PrimitiveExtensions.SHORT, value);
+  }
+
+  @Override
+  public ProblemBuilder extension(String name, char value) {
+    return primitiveExtension(name, PrimitiveExtensions.CHAR, value);
+  }
+
+  @Override
+  public ProblemBuilder extension(String name, float value) {
+    return primitiveExtension(name, PrimitiveExtensions.FLOAT, Double.doubleToRawLongBits(value));
+  }
+
+  private ProblemBuilder primitiveExtension(String name, byte kind, long bits) {
+    this.prebuilt = null;
+    if (!extensions.isEmpty()) {
+      ownExtensions();
+      extensions.remove(name);
+    }
+    ExtensionKey<?> key = keyed != null ? ExtensionKey.find(name) : null;
+    if (key != null) {
+      setKeyed(key.getIndex(), null);
+    }
+    PrimitiveExtensions primitives = this.primitives;
+    if (primitives == null) {
+      primitives = new PrimitiveExtensions();
+      this.primitives = primitives;
+    }
+    primitives.put(name, kind, bits);
+    return this;
+  }
+
+  private void ownExtensions() {
+    if (extensionsShared) {
+      this.extensions = new HashMap<>(extensions);
+      this.extensionsShared = false;
+    }
+  }
+
+  private void setKeyed(int index, @Nullable Object value) {
+    @Nullable Object[] keyed = this.keyed;
+    if (keyed == null || index >= keyed.length) {
+      if (value == null) {
+        return;
+      }
+      keyed = Arrays.copyOf(keyed != null ? keyed : new Object[0], Math.max(index + 1, 4));
+      this.keyed = keyed;
+    }
+    keyed[index] = value;
+  }
+
+  // Marks this builder as acquired from the pool. Called only for builders not yet acquired.
+  void acquiredFrom(ProblemBuilderPool pool) {
+    owner = pool;
+  }
+
+  // Returns true if this builder was acquired from the pool and not released since, marking it as
+  // released, so that of concurrent or repeated releases exactly one succeeds.
+  boolean releaseTo(ProblemBuilderPool pool) {
+    return OWNER.compareAndSet(this, pool, null);
+  }
+
+  @Override
+  public ProblemBuilder oneShot() {
+    this.oneShot = true;
+    return this;
+  }
+
+  @Override
+  public ProblemBuilder reset() {
+    this.type = null;
+    this.title = null;
+    this.status = 0;
+    this.detail = null;
+    this.instance = null;
+    if (extensionsShared) {
+      this.extensions = new HashMap<>();
+      this.extensionsShared = false;
+    } else {
+      this.extensions.clear();
+    }
+    if (keyed != null) {
+      Arrays.fill(keyed, null);
+    }
+    if (primitives != null) {
+      primitives.clear();
+    }
+    this.oneShot = false;
+    this.prebuilt = null;
+    return this;
+  }
+
   @Override
   public Problem build() {
+    Problem prebuilt = this.prebuilt;
+    if (prebuilt != null) {
+      return prebuilt;
+    }
+    if (isStatusOnly() && statusTitleResolver == StatusTitleSupport.getResolver()) {
+      return StatusProblems.of(status);
+    }
     URI type = this.type;
     if (type == null || isTypeBlank(type)) {
       type = Problem.BLANK_TYPE;
@@ -108,28 +315,95 @@ public Problem build() {
     if (title == null) {
       title = statusTitleResolver.resolve(status).orElse(Problem.UNKNOWN_TITLE);
     }
-    return new DefaultProblem(type, title, status, detail, instance, extensions);
+    if (oneShot) {
+      extensionsShared = !extensions.isEmpty();
+      return new DefaultProblem(
+          type, title, status, detail, instance, ExtensionMap.adopt(extensions, keyed, primitives));
+    }
+    return new DefaultProblem(
+        type, title, status, detail, instance, ExtensionMap.copyOf(extensions, keyed, primitives));
+  }
+
+  // true if nothing but the status is set, so the problem depends only on status and resolver
+  private boolean isStatusOnly() {
+    return (type == null || isTypeBlank(type))
+        && title == null
+        && detail == null
+        && instance == null
+        && extensions.isEmpty()
+        && !hasKeyed()
+        && (primitives == null || primitives.isEmpty());
+  }
+
+  private boolean hasKeyed() {
+    if (keyed != null) {
+      for (Object value : keyed) {
+        if (value != null) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // All extensions by name, including those set by ExtensionKey and primitive values, boxed.
+  private Map<String, Object> getAllExtensions() {
+    PrimitiveExtensions primitives = this.primitives;
+    if (!hasKeyed() && (primitives == null || primitives.isEmpty())) {
+      return extensions;
+    }
+    Map<String, Object> all = new HashMap<>(extensions);
+    @Nullable Object[] keyed = this.keyed;
+    for (int i = 0; keyed != null && i < keyed.length; i++) {
+      Object value = keyed[i];
+      if (value != null) {
+        all.put(ExtensionKey.at(i).getName(), value);
+      }
+    }
+    for (int i = 0; primitives != null && i < primitives.size(); i++) {
+      all.put(primitives.nameAt(i), primitives.box(i));
+    }
+    return all;
+  }
+
+  // Extensions set by ExtensionKey and primitive values are written by name, in the extensions map.
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    Map<String, Object> extensions = this.extensions;
+    this.extensions = getAllExtensions();
+    try {
+      out.defaultWriteObject();
+    } finally {
+      this.extensions = extensions;
+    }
+  }
+
+  // Builds the problem and keeps it, so build() of this builder and of its copies returns the same
+  // immutable instance until they are modified.
+  Problem prebuild() {
+    Problem problem = build();
+    this.prebuilt = problem;
+    return problem;
   }
 
   @Override
   public String toString() {
-    List<String> entries = new ArrayList<>();
+    Map<String, Object> extensions = getAllExtensions();
+    StringBuilder builder = new StringBuilder(64 + 24 * extensions.size());
+    builder.append("ProblemBuilder[");
     if (type != null && isTypeNonBlank(type)) {
-      entries.add("type=" + type);
+      builder.append("type=").append(type).append(", ");
     }
     if (title != null) {
-      entries.add("title=" + title);
+      builder.append("title=").append(title).append(", ");
     }
-    entries.add("status=" + status);
+    builder.append("status=").append(status);
     if (detail != null) {
-      entries.add("detail=" + detail);
+      builder.append(", detail=").append(detail);
     }
     if (instance != null) {
-      entries.add("instance=" + instance);
+      builder.append(", instance=").append(instance);
     }
-    extensions.entrySet().stream()
-        .sorted(Map.Entry.comparingByKey())
-        .forEach(entry -> entries.add(entry.getKey() + "=" + entry.getValue()));
-    return "ProblemBuilder[" + String.join(", ", entries) + "]";
+    ProblemSupport.appendSorted(builder, extensions, false);
+    return builder.append(']').toString();
   }
 }
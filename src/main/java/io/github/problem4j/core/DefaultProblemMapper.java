@@ -16,9 +16,15 @@
 
 package io.github.problem4j.core;
 
-import java.lang.reflect.Field;
-import java.util.regex.Matcher;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -57,6 +63,26 @@
  * inheritance, and ensures that null or empty values do not appear in the output, making Problems
  * concise and meaningful.
  *
+ * <p>Mapper created with {@link #DefaultProblemMapper(int)} maps the first throwable in the {@link
+ * Throwable#getCause()} chain whose class has {@link ProblemMapping}, so that annotated exceptions
+ * wrapped by frameworks (for example in {@code CompletionException}) are mapped as well.
+ *
+ * <p>Mapper created with {@link #DefaultProblemMapper(ProblemMappingRegistry)} also maps
+ * exception classes that cannot be annotated, according to definitions registered in {@link
+ * ProblemMappingRegistry}.
+ *
+ * <p>Mappings without placeholders and extensions are evaluated only once per class. Builders
+ * returned for them build a shared immutable {@link Problem} until they are modified.
+ *
+ * <p>If a {@link ProblemMappingProvider} for the exact class of the throwable is registered via
+ * {@link java.util.ServiceLoader} (for example generated by {@code problem4j-core-processor}), it
+ * is used instead of the reflective algorithm above.
+ *
+ * <p>Subclasses overriding any of the {@code protected} hooks of this class always use the
+ * reflective algorithm, so that their customizations apply. Subclasses overriding {@link
+ * #toProblemBuilder(Throwable, ProblemContext)} have it called for each throwable mapped by {@link
+ * #toProblems(Iterable, ProblemContext)}.
+ *
  * @since 2.0.0
  */
 public class DefaultProblemMapper implements ProblemMapper {
@@ -90,12 +116,131 @@ public class DefaultProblemMapper implements ProblemMapper {
    */
   protected static final String CONTEXT_LABEL_PREFIX = "context.";
 
+  // Whether a subclass overrides any protected hook, in which case shortcuts that bypass the hooks
+  // (such as compiled plans or generated providers) must not be used.
+  private static final ClassValue<Boolean> HOOKS_OVERRIDDEN =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          for (Class<?> c = type;
+              c != null && c != DefaultProblemMapper.class;
+              c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+              if (isHook(method)) {
+                return true;
+              }
+            }
+          }
+          return false;
+        }
+      };
+
+  // Whether a subclass overrides toProblemBuilder(Throwable, ProblemContext), in which case batches
+  // must be mapped through it instead of through the private variant reusing a render buffer.
+  private static final ClassValue<Boolean> BUILDER_OVERRIDDEN =
+      new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+          for (Class<?> c = type;
+              c != null && c != DefaultProblemMapper.class;
+              c = c.getSuperclass()) {
+            try {
+              c.getDeclaredMethod("toProblemBuilder", Throwable.class, ProblemContext.class);
+              return true;
+            } catch (NoSuchMethodException e) {
+              // not declared in this class, check its superclass
+            }
+          }
+          return false;
+        }
+      };
+
+  // Compiled plan per annotated class, shared by all mappers without overridden hooks. Plans of
+  // mappings without placeholders and extensions hold a prebuilt builder, as such mappings produce
+  // the same Problem for every throwable of that class. Empty for classes without annotation.
+  private static final ClassValue<Optional<MappingPlan>> PLANS =
+      new ClassValue<Optional<MappingPlan>>() {
+        @Override
+        protected Optional<MappingPlan> computeValue(Class<?> type) {
+          ProblemMapping mapping = ProblemMappingSupport.findMapping(type);
+          return mapping != null ? Optional.of(MappingPlan.compile(mapping)) : Optional.empty();
+        }
+      };
+
+  private final @Nullable ProblemMappingRegistry registry;
+  private final int maxCauseDepth;
+  private final boolean hooksOverridden;
+  private final boolean builderOverridden;
+
   /**
    * Creates a new instance of problem mapper.
    *
    * @since 2.0.0
    */
-  public DefaultProblemMapper() {}
+  public DefaultProblemMapper() {
+    this(null, 0);
+  }
+
+  /**
+   * Creates a new instance of problem mapper, which also maps throwables wrapped in the {@link
+   * Throwable#getCause()} chain of the given throwable.
+   *
+   * <p>If the given throwable itself has no {@link ProblemMapping}, its causes are inspected in
+   * order, up to {@code maxCauseDepth} levels deep, and the first one with {@link ProblemMapping}
+   * is mapped. Throwables without {@link ProblemMapping} are treated as transparent wrappers.
+   * Cyclic cause chains are detected and end the lookup.
+   *
+   * @param maxCauseDepth maximum number of causes to inspect, {@code 0} to map only the given
+   *     throwable
+   * @throws IllegalArgumentException if {@code maxCauseDepth} is negative
+   * @since 2.1.0
+   */
+  public DefaultProblemMapper(int maxCauseDepth) {
+    this(null, maxCauseDepth);
+  }
+
+  /**
+   * Creates a new instance of problem mapper, which also maps exception classes registered in the
+   * given {@link ProblemMappingRegistry}.
+   *
+   * <p>Exception classes with {@link ProblemMapping} annotation are mapped according to the
+   * annotation, other classes according to the entry of their nearest registered superclass. The
+   * registry may be modified after the mapper is created.
+   *
+   * @param registry the registry of mappings for exception classes without {@link ProblemMapping}
+   * @since 2.1.0
+   */
+  public DefaultProblemMapper(ProblemMappingRegistry registry) {
+    this(registry, 0);
+  }
+
+  /**
+   * Creates a new instance of problem mapper, which maps exception classes registered in the given
+   * {@link ProblemMappingRegistry} and throwables wrapped in the {@link Throwable#getCause()}
+   * chain. See {@link #DefaultProblemMapper(int)} and {@link
+   * #DefaultProblemMapper(ProblemMappingRegistry)}.
+   *
+   * <p>The first throwable in the chain whose class has {@link ProblemMapping} or an entry of its
+   * own is mapped. Only if there is none, the first throwable resolved to an entry of any of its
+   * superclasses is mapped, so that an entry for a common superclass (such as {@link
+   * RuntimeException}) does not take precedence over the mapping of a wrapped cause.
+   *
+   * @param registry the registry of mappings for exception classes without {@link ProblemMapping}
+   *     (may be {@code null})
+   * @param maxCauseDepth maximum number of causes to inspect, {@code 0} to map only the given
+   *     throwable
+   * @throws IllegalArgumentException if {@code maxCauseDepth} is negative
+   * @since 2.1.0
+   */
+  public DefaultProblemMapper(@Nullable ProblemMappingRegistry registry, int maxCauseDepth) {
+    if (maxCauseDepth < 0) {
+      throw new IllegalArgumentException("maxCauseDepth must not be negative: " + maxCauseDepth);
+    }
+    this.registry = registry;
+    this.maxCauseDepth = maxCauseDepth;
+    this.hooksOverridden = HOOKS_OVERRIDDEN.get(getClass());
+    this.builderOverridden = BUILDER_OVERRIDDEN.get(getClass());
+  }
 
   /**
    * Convert {@link Throwable} -&gt; {@link ProblemBuilder} according to its {@link ProblemMapping}
@@ -120,6 +265,10 @@ public final ProblemBuilder toProblemBuilder(@Nullable Throwable t) {
    * Convert {@link Throwable} -&gt; {@link ProblemBuilder} according to its {@link ProblemMapping}
    * annotation.
    *
+   * <p>For mappers created with {@link #DefaultProblemMapper(int)}, the first throwable with {@link
+   * ProblemMapping} in the cause chain of {@code t} is converted instead, if {@code t} itself has
+   * none.
+   *
    * @param t {@link Throwable} to convert (may be {@code null})
    * @param context optional {@link ProblemContext} (may be {@code null})
    * @return a {@link ProblemBuilder} instance
@@ -128,42 +277,165 @@ public final ProblemBuilder toProblemBuilder(@Nullable Throwable t) {
    */
   @Override
   public ProblemBuilder toProblemBuilder(@Nullable Throwable t, @Nullable ProblemContext context) {
-    if (t == null) {
-      return Problem.builder();
+    return toProblemBuilder(t, context, null);
+  }
+
+  /**
+   * Converts each of the given throwables into a {@link Problem}, the same way as {@link
+   * #toProblemBuilder(Throwable, ProblemContext)} followed by {@link ProblemBuilder#build()}.
+   *
+   * <p>Mapping plans are compiled once per exception class and shared, so consecutive throwables
+   * of the same class only evaluate their placeholders, and a single buffer is reused to render the
+   * placeholders of the whole batch.
+   *
+   * @param throwables throwables to convert, in order (elements may be {@code null})
+   * @param context optional {@link ProblemContext} shared by all throwables (may be {@code null})
+   * @return a new mutable list of {@link Problem}s, in the order of {@code throwables}
+   * @throws ProblemMappingException when something goes wrong while building any of the Problems
+   * @since 2.1.0
+   */
+  @Override
+  public List<Problem> toProblems(
+      Iterable<? extends @Nullable Throwable> throwables, @Nullable ProblemContext context) {
+    if (hooksOverridden || builderOverridden) {
+      return ProblemMapper.super.toProblems(throwables, context);
     }
-    ProblemMapping mapping = findAnnotation(t.getClass());
-    if (mapping == null) {
-      return Problem.builder();
+    List<Problem> problems =
+        throwables instanceof Collection
+            ? new ArrayList<>(((Collection<?>) throwables).size())
+            : new ArrayList<>();
+    StringBuilder buffer = new StringBuilder(64);
+    for (Throwable t : throwables) {
+      problems.add(toProblemBuilder(t, context, buffer).build());
     }
+    return problems;
+  }
 
-    ProblemBuilder builder = Problem.builder();
+  /**
+   * Lazily converts each of the given throwables into a {@link Problem}, the same way as {@link
+   * #toProblemBuilder(Throwable, ProblemContext)} followed by {@link ProblemBuilder#build()}.
+   *
+   * <p>The context is copied when this method is called, so that later modifications of {@code
+   * context} do not affect problems produced when the stream is consumed. The returned stream may
+   * be parallel, if {@code throwables} is.
+   *
+   * @param throwables throwables to convert (elements may be {@code null})
+   * @param context optional {@link ProblemContext} shared by all throwables (may be {@code null})
+   * @return a stream of {@link Problem}s, in the encounter order of {@code throwables}
+   * @since 2.1.0
+   */
+  @Override
+  public Stream<Problem> toProblems(
+      Stream<? extends @Nullable Throwable> throwables, @Nullable ProblemContext context) {
+    ProblemContext snapshot =
+        context != null ? ProblemContext.create().putAll(context.toMap()) : null;
+    return ProblemMapper.super.toProblems(throwables, snapshot);
+  }
+
+  // Buffer is reused to render placeholders across calls from a single thread, if not null.
+  private ProblemBuilder toProblemBuilder(
+      @Nullable Throwable t, @Nullable ProblemContext context, @Nullable StringBuilder buffer) {
+    Throwable source = findMappable(t);
+    if (source == null) {
+      return Problem.builder();
+    }
 
     try {
-      applyTypeOnBuilder(builder, mapping, t, context);
-      applyTitleOnBuilder(builder, mapping, t, context);
-      applyStatusOnBuilder(builder, mapping);
-      applyDetailOnBuilder(builder, mapping, t, context);
-      applyInstanceOnBuilder(builder, mapping, t, context);
-      applyExtensionsOnBuilder(builder, mapping, t);
-      return builder;
+      ProblemMapping mapping = findAnnotation(source.getClass());
+      if (mapping == null) {
+        return toProblemBuilderFromRegistry(source, context, buffer);
+      }
+      if (!hooksOverridden) {
+        MappingPlan plan = PLANS.get(source.getClass()).orElse(null);
+        if (plan != null) {
+          ProblemMappingProvider provider =
+              plan.getPrototype() == null
+                  ? ProblemMappingSupport.findProvider(source.getClass())
+                  : null;
+          return provider != null
+              ? provider.toProblemBuilder(source, context)
+              : plan.toProblemBuilder(source, context, this, buffer);
+        }
+      }
+      return applyMapping(mapping, source, context);
     } catch (ProblemMappingException e) {
       // explicit rethrow so next clause doesn't have ProblemProcessingException as a cause
       throw e;
     } catch (Exception e) {
       throw new ProblemMappingException(
-          "Unexpected failure while processing @ProblemMapping of " + t.getClass().getName(), e);
+          "Unexpected failure while processing @ProblemMapping of "
+              + source.getClass().getName(),
+          e);
+    }
+  }
+
+  /**
+   * Convert {@link Throwable} -&gt; {@link Problem} according to its {@link ProblemMapping}, the
+   * same way as {@link #toProblemBuilder(Throwable, ProblemContext)} followed by {@link
+   * ProblemBuilder#build()}, but deferring interpolation.
+   *
+   * <p>The status of the returned {@link Problem} is available immediately, while {@code type},
+   * {@code title}, {@code detail}, {@code instance} and {@code extensions} are interpolated on
+   * their first access, each at most once, and are safely published to other threads. Consumers
+   * that only read {@link Problem#getStatus()} (for example for metrics or routing) therefore skip
+   * placeholder rendering and field reads entirely.
+   *
+   * <p>Until all fields are accessed, the returned {@link Problem} keeps a reference to the
+   * throwable and a copy of the context, and reads the fields of the throwable at the time of
+   * first access. Failures of deferred interpolation are thrown from the accessors as {@link
+   * ProblemMappingException}. The returned {@link Problem} is serialized with all its fields
+   * interpolated.
+   *
+   * <p>Interpolation is not deferred for mappings without placeholders and extensions (which are
+   * pre-built anyway), for generated {@link ProblemMappingProvider}s, for functions registered in
+   * {@link ProblemMappingRegistry}, and for subclasses overriding any of the {@code protected}
+   * hooks of this class.
+   *
+   * @param t {@link Throwable} to convert (may be {@code null})
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return a {@link Problem} instance
+   * @throws ProblemMappingException when something goes wrong while building the Problem, or when
+   *     interpolation is not deferred
+   * @since 2.1.0
+   */
+  public Problem toLazyProblem(@Nullable Throwable t, @Nullable ProblemContext context) {
+    Throwable source = findMappable(t);
+    ProblemMapping mapping = source != null && !hooksOverridden ? findLazyMapping(source) : null;
+    if (source == null || mapping == null) {
+      return toProblemBuilder(t, context).build();
     }
+    ProblemContext snapshot =
+        context != null ? ProblemContext.create().putAll(context.toMap()) : null;
+    return new LazyProblem(this, mapping, source, snapshot);
+  }
+
+  /**
+   * Checks whether the given throwable, or for mappers created with {@link
+   * #DefaultProblemMapper(int)} any throwable in its cause chain, has {@link ProblemMapping} or an
+   * entry in {@link ProblemMappingRegistry} of this mapper.
+   *
+   * @param t {@link Throwable} to check (may be {@code null})
+   * @return {@code true} if {@link #toProblemBuilder(Throwable, ProblemContext)} would map the
+   *     throwable, {@code false} otherwise
+   * @since 2.1.0
+   */
+  @Override
+  public boolean isMappingCandidate(@Nullable Throwable t) {
+    return findMappable(t) != null;
   }
 
   /**
    * Returns the {@link ProblemMapping} annotation from the class if present, otherwise null.
    *
+   * <p>The lookup is cached per class (including classes without the annotation) and shared across
+   * all mapper instances, so repeated calls do not go through reflection.
+   *
    * @param clazz the class to inspect
    * @return the {@link ProblemMapping} annotation if present, otherwise null
    * @since 2.0.0
    */
   protected @Nullable ProblemMapping findAnnotation(Class<?> clazz) {
-    return clazz.getAnnotation(ProblemMapping.class);
+    return ProblemMappingSupport.findMapping(clazz);
   }
 
   /**
@@ -183,13 +455,9 @@ protected void applyTypeOnBuilder(
       @Nullable ProblemContext context) {
     String rawType = getRawType(mapping);
     if (!rawType.isEmpty()) {
-      String typeInterpolated = interpolate(rawType, t, context);
-      if (!typeInterpolated.isEmpty()) {
-        try {
-          builder.type(typeInterpolated);
-        } catch (IllegalArgumentException e) {
-          // ignored - if type is invalid let not fail
-        }
+      URI type = interpolateUri(rawType, t, context);
+      if (type != null) {
+        builder.type(type);
       }
     }
   }
@@ -302,13 +570,9 @@ protected void applyInstanceOnBuilder(
       @Nullable ProblemContext context) {
     String rawInstance = getRawInstance(mapping);
     if (!rawInstance.isEmpty()) {
-      String instanceInterpolated = interpolate(rawInstance, t, context);
-      if (!instanceInterpolated.isEmpty()) {
-        try {
-          builder.instance(instanceInterpolated);
-        } catch (IllegalArgumentException e) {
-          // ignored - if instance is invalid, let not fail
-        }
+      URI instance = interpolateUri(rawInstance, t, context);
+      if (instance != null) {
+        builder.instance(instance);
       }
     }
   }
@@ -359,6 +623,10 @@ protected void applyExtensionsOnBuilder(
    *
    * <p>Missing values resolve to an empty string.
    *
+   * <p>Each template is parsed once into literal and placeholder segments and the parsed form is
+   * cached, so repeated calls for the same {@link ProblemMapping} do not run {@link #PLACEHOLDER}.
+   * Templates without placeholders are returned as-is.
+   *
    * @param template the template string containing placeholders
    * @param t the throwable to extract values from
    * @param context the problem context for additional data
@@ -366,38 +634,20 @@ protected void applyExtensionsOnBuilder(
    * @since 2.0.0
    */
   protected String interpolate(String template, Throwable t, @Nullable ProblemContext context) {
-    Matcher m = PLACEHOLDER.matcher(template);
-    StringBuilder sb = new StringBuilder();
-
-    int lastEnd = 0;
-    while (m.find()) {
-      sb.append(template, lastEnd, m.start());
-
-      String key = m.group(1);
-      String replacement;
-
-      if (MESSAGE_LABEL.equals(key)) {
-        replacement = t.getMessage() == null ? "" : String.valueOf(t.getMessage());
-      } else if (key.startsWith(CONTEXT_LABEL_PREFIX)) {
-        String contextKey = key.substring(CONTEXT_LABEL_PREFIX.length());
-        String contextValue = context != null ? context.get(contextKey) : null;
-        replacement = contextValue != null ? contextValue : "";
-      } else {
-        Object v = resolvePlaceholderSource(t, key);
-        replacement = (v == null) ? "" : String.valueOf(v);
-      }
-
-      sb.append(replacement);
-      lastEnd = m.end();
+    PlaceholderTemplate compiled = PlaceholderTemplate.of(template);
+    if (compiled.isLiteral()) {
+      return template;
     }
 
-    sb.append(template, lastEnd, template.length());
-    return sb.toString();
+    return compiled.render(t, context, this, new StringBuilder(compiled.getLengthHint()));
   }
 
   /**
    * Resolves a placeholder by reflective field lookup up the throwable class hierarchy.
    *
+   * <p>Field accessors are resolved once per class and field name and cached, including fields
+   * that do not exist or are not accessible.
+   *
    * @param t the throwable to inspect
    * @param name the field name to look for
    * @return the field value if found, otherwise null
@@ -407,19 +657,123 @@ protected String interpolate(String template, Throwable t, @Nullable ProblemCont
     if (name.isEmpty()) {
       return null;
     }
-    Class<?> search = t.getClass();
-    while (search != null && search != Object.class) {
-      try {
-        Field f = search.getDeclaredField(name);
-        f.setAccessible(true);
-        return f.get(t);
-      } catch (NoSuchFieldException ignored) {
-        // ignored, loop will go to parent class to see if that field exists there
-      } catch (Exception ignored) {
+    return FieldAccessors.read(t, name);
+  }
+
+  // Mapping evaluated by interpolation for the throwable, or null if the throwable is mapped by a
+  // pre-built problem, a generated provider or a registered function.
+  private @Nullable ProblemMapping findLazyMapping(Throwable t) {
+    Class<?> type = t.getClass();
+    ProblemMapping mapping = findAnnotation(type);
+    if (mapping != null) {
+      MappingPlan plan = PLANS.get(type).orElse(null);
+      boolean prebuilt = plan != null && plan.getPrototype() != null;
+      return !prebuilt && ProblemMappingSupport.findProvider(type) == null ? mapping : null;
+    }
+    ProblemMappingRegistry.Entry entry = registry != null ? registry.find(type) : null;
+    return entry != null && entry.getPrototype() == null ? entry.getDefinition() : null;
+  }
+
+  private ProblemBuilder toProblemBuilderFromRegistry(
+      Throwable t, @Nullable ProblemContext context, @Nullable StringBuilder buffer) {
+    ProblemMappingRegistry.Entry entry = registry != null ? registry.find(t.getClass()) : null;
+    if (entry == null) {
+      return Problem.builder();
+    }
+    ProblemMappingRegistry.MappingFunction<Throwable> function = entry.getFunction();
+    if (function != null) {
+      return function.toProblemBuilder(t, context);
+    }
+    ProblemMapping definition = entry.getDefinition();
+    if (definition == null) {
+      return Problem.builder();
+    }
+    MappingPlan plan = entry.getPlan();
+    if (!hooksOverridden && plan != null) {
+      return plan.toProblemBuilder(t, context, this, buffer);
+    }
+    return applyMapping(definition, t, context);
+  }
+
+  private ProblemBuilder applyMapping(
+      ProblemMapping mapping, Throwable t, @Nullable ProblemContext context) {
+    ProblemBuilder builder = Problem.builder();
+    applyTypeOnBuilder(builder, mapping, t, context);
+    applyTitleOnBuilder(builder, mapping, t, context);
+    applyStatusOnBuilder(builder, mapping);
+    applyDetailOnBuilder(builder, mapping, t, context);
+    applyInstanceOnBuilder(builder, mapping, t, context);
+    applyExtensionsOnBuilder(builder, mapping, t);
+    return builder;
+  }
+
+  // Whether the class is annotated or registered by itself, or if bySuperclass, whether it is
+  // resolved to a registry entry of any of its superclasses.
+  private boolean isMappable(Class<?> type, boolean bySuperclass) {
+    if (bySuperclass) {
+      return registry != null && registry.isRegistered(type);
+    }
+    return findAnnotation(type) != null || (registry != null && registry.isRegisteredExactly(type));
+  }
+
+  // Returns the throwable itself or the first of its causes, up to maxCauseDepth, with a mapping.
+  // Registry entries resolved through superclasses are used only if no throwable in the chain is
+  // annotated or registered by its own class, so that a catch-all entry (e.g. for RuntimeException)
+  // does not shadow the mapping of a wrapped cause.
+  private @Nullable Throwable findMappable(@Nullable Throwable t) {
+    Throwable source = findMappable(t, false);
+    return source == null && registry != null ? findMappable(t, true) : source;
+  }
+
+  // Whether a class has a mapping is cached per class, so after warm-up each step of the walk costs
+  // a single lookup. Cycles are detected by a second reference moving at half the speed, which
+  // catches up with the first one in a cyclic chain without allocating a visited set.
+  private @Nullable Throwable findMappable(@Nullable Throwable t, boolean bySuperclass) {
+    Throwable current = t;
+    Throwable slow = t;
+    for (int depth = 0; current != null; depth++) {
+      if (isMappable(current.getClass(), bySuperclass)) {
+        return current;
+      }
+      if (depth >= maxCauseDepth) {
+        return null;
+      }
+      current = current.getCause();
+      if ((depth & 1) == 1 && slow != null) {
+        slow = slow.getCause();
+      }
+      if (current == slow) {
         return null;
       }
-      search = search.getSuperclass();
     }
     return null;
   }
+
+  // Interpolates the template and parses it into URI, returning null if it is empty or not a valid
+  // URI. Templates without placeholders are parsed only once, other values go through a bounded
+  // cache, so repeated values are not parsed again.
+  @Nullable URI interpolateUri(String template, Throwable t, @Nullable ProblemContext context) {
+    if (!hooksOverridden) {
+      PlaceholderTemplate compiled = PlaceholderTemplate.of(template);
+      if (compiled.isLiteral()) {
+        return compiled.toUri();
+      }
+    }
+    String interpolated = interpolate(template, t, context);
+    return !interpolated.isEmpty() ? UriSupport.parse(interpolated) : null;
+  }
+
+  private static boolean isHook(Method method) {
+    if (Modifier.isStatic(method.getModifiers()) || Modifier.isPrivate(method.getModifiers())) {
+      return false;
+    }
+    try {
+      Method hook =
+          DefaultProblemMapper.class.getDeclaredMethod(
+              method.getName(), method.getParameterTypes());
+      return Modifier.isProtected(hook.getModifiers()) && !Modifier.isFinal(hook.getModifiers());
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import org.jspecify.annotations.Nullable;
+
+// ProblemMapping created programmatically, see ProblemMappingRegistry.definition(). Implements
+// equals, hashCode and toString as specified by Annotation, so it is interchangeable with (and
+// equal to) annotation instances with the same attributes.
+final class DefaultProblemMapping implements ProblemMapping {
+
+  private final String type;
+  private final String title;
+  private final int status;
+  private final String detail;
+  private final String instance;
+  private final String[] extensions;
+
+  DefaultProblemMapping(
+      String type, String title, int status, String detail, String instance, String[] extensions) {
+    this.type = type;
+    this.title = title;
+    this.status = status;
+    this.detail = detail;
+    this.instance = instance;
+    this.extensions = extensions.clone();
+  }
+
+  @Override
+  public String type() {
+    return type;
+  }
+
+  @Override
+  public String title() {
+    return title;
+  }
+
+  @Override
+  public int status() {
+    return status;
+  }
+
+  @Override
+  public String detail() {
+    return detail;
+  }
+
+  @Override
+  public String instance() {
+    return instance;
+  }
+
+  @Override
+  public String[] extensions() {
+    return extensions.clone();
+  }
+
+  @Override
+  public Class<? extends Annotation> annotationType() {
+    return ProblemMapping.class;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof ProblemMapping)) {
+      return false;
+    }
+    ProblemMapping other = (ProblemMapping) obj;
+    return type.equals(other.type())
+        && title.equals(other.title())
+        && status == other.status()
+        && detail.equals(other.detail())
+        && instance.equals(other.instance())
+        && Arrays.equals(extensions, other.extensions());
+  }
+
+  @Override
+  public int hashCode() {
+    return memberHashCode("type", type.hashCode())
+        + memberHashCode("title", title.hashCode())
+        + memberHashCode("status", Integer.hashCode(status))
+        + memberHashCode("detail", detail.hashCode())
+        + memberHashCode("instance", instance.hashCode())
+        + memberHashCode("extensions", Arrays.hashCode(extensions));
+  }
+
+  private static int memberHashCode(String name, int valueHashCode) {
+    return (127 * name.hashCode()) ^ valueHashCode;
+  }
+
+  @Override
+  public String toString() {
+    return "@"
+        + ProblemMapping.class.getName()
+        + "(type=\""
+        + type
+        + "\", title=\""
+        + title
+        + "\", status="
+        + status
+        + ", detail=\""
+        + detail
+        + "\", instance=\""
+        + instance
+        + "\", extensions="
+        + Arrays.toString(extensions)
+        + ")";
+  }
+}
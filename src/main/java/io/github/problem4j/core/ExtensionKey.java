@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Typed key of a {@link Problem} extension, registered once with a fixed slot index.
+ *
+ * <p>Extensions set with {@link ProblemBuilder#extension(ExtensionKey, Object)} are stored by
+ * {@link ProblemBuilder#build() built} problems in a dense array indexed by the slot of the key,
+ * and are read with {@link Problem#getExtension(ExtensionKey)} without hashing the name or checking
+ * the type of the value. They are also included in {@link Problem#getExtensions()} under the name
+ * of the key, like extensions set by name.
+ *
+ * <p>Keys are intended to be registered once, as constants, for well-known extensions. Registering
+ * the same name again returns the existing key if the type matches.
+ *
+ * <p>Keys are registered globally, per class loader of this library, and are never unregistered.
+ * Libraries registering the same name share the key, and the one registering it later with another
+ * type fails, so names of library-specific extensions should be qualified, e.g. with a prefix.
+ *
+ * <p>Only the first 256 keys hold slots. Further keys are not registered: {@link #of(String,
+ * Class)} returns a new key on each call, not checked against other types, whose values are stored
+ * and read by name, like extensions set by name.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * static final ExtensionKey<String> TENANT_ID = ExtensionKey.of("tenantId", String.class);
+ *
+ * Problem problem = Problem.builder().status(403).extension(TENANT_ID, "acme").build();
+ * String tenantId = problem.getExtension(TENANT_ID);
+ * }</pre>
+ *
+ * @param <T> type of the extension value
+ * @since 2.1.0
+ */
+public final class ExtensionKey<T> {
+
+  // Keys hold slots of dense arrays, so their number is limited to keep the arrays small. Keys are
+  // registered as constants, so the limit is reached only by registering dynamic names, which are
+  // then not registered at all, so that they neither grow the registry nor pin their types.
+  private static final int MAX_KEYS = 256;
+
+  // Slot index of keys beyond MAX_KEYS, whose values are stored by name.
+  static final int UNINDEXED = -1;
+
+  private static final ConcurrentMap<String, ExtensionKey<?>> BY_NAME = new ConcurrentHashMap<>();
+
+  private static volatile ExtensionKey<?>[] byIndex = new ExtensionKey<?>[0];
+
+  /**
+   * Key of the identifier of the trace in which the problem occurred.
+   *
+   * @since 2.1.0
+   */
+  public static final ExtensionKey<String> TRACE_ID = of("traceId", String.class);
+
+  /**
+   * Key of the application-specific error code of the problem.
+   *
+   * @since 2.1.0
+   */
+  public static final ExtensionKey<String> ERROR_CODE = of("errorCode", String.class);
+
+  private final String name;
+  private final Class<T> type;
+  private final int index;
+
+  private ExtensionKey(String name, Class<T> type, int index) {
+    this.name = name;
+    this.type = type;
+    this.index = index;
+  }
+
+  /**
+   * Returns the key of the extension with the given name and type, registering it on first call.
+   *
+   * @param name the extension name
+   * @param type the type of extension values (not a primitive type)
+   * @param <T> type of the extension value
+   * @return the {@link ExtensionKey} instance
+   * @throws IllegalArgumentException if {@code name} is registered with a different type, or if
+   *     {@code type} is primitive
+   * @since 2.1.0
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> ExtensionKey<T> of(String name, Class<T> type) {
+    if (type.isPrimitive()) {
+      throw new IllegalArgumentException("type must not be primitive: " + type.getName());
+    }
+    ExtensionKey<?> key = BY_NAME.get(name);
+    if (key == null) {
+      key = register(name, type);
+    }
+    if (key.type != type) {
+      throw new IllegalArgumentException(
+          "Extension " + name + " is already registered with type " + key.type.getName());
+    }
+    return (ExtensionKey<T>) key;
+  }
+
+  private static synchronized ExtensionKey<?> register(String name, Class<?> type) {
+    ExtensionKey<?> key = BY_NAME.get(name);
+    if (key != null) {
+      return key;
+    }
+    ExtensionKey<?>[] keys = byIndex;
+    if (keys.length >= MAX_KEYS) {
+      return unindexed(name, type);
+    }
+    key = new ExtensionKey<>(name, type, keys.length);
+    ExtensionKey<?>[] updated = new ExtensionKey<?>[keys.length + 1];
+    System.arraycopy(keys, 0, updated, 0, keys.length);
+    updated[keys.length] = key;
+    byIndex = updated;
+    BY_NAME.put(name, key);
+    return key;
+  }
+
+  // Key without a slot, see UNINDEXED.
+  static <T> ExtensionKey<T> unindexed(String name, Class<T> type) {
+    return new ExtensionKey<>(name, type, UNINDEXED);
+  }
+
+  // Registered key of the given name, or null.
+  static @Nullable ExtensionKey<?> find(String name) {
+    return BY_NAME.get(name);
+  }
+
+  // Key registered at the given slot index.
+  static ExtensionKey<?> at(int index) {
+    return byIndex[index];
+  }
+
+  /**
+   * Returns the extension name.
+   *
+   * @return the extension name
+   * @since 2.1.0
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the type of extension values.
+   *
+   * @return the type of extension values
+   * @since 2.1.0
+   */
+  public Class<T> getType() {
+    return type;
+  }
+
+  // Slot index of this key in dense arrays of extension values, or UNINDEXED.
+  int getIndex() {
+    return index;
+  }
+
+  @Override
+  public String toString() {
+    return "ExtensionKey[" + name + ": " + type.getSimpleName() + "]";
+  }
+}
@@ -0,0 +1,534 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import org.jspecify.annotations.Nullable;
+
+// Immutable map of Problem extensions. Most problems have only a few extensions, so up to
+// MAX_ARRAY_SIZE entries are kept in a single array of alternating keys and values, sorted by key
+// and looked up by binary search, which retains far less memory than a HashMap and its nodes.
+// Larger maps fall back to a HashMap. Instances are returned from Problem.getExtensions() as they
+// are, without allocating a wrapper.
+//
+// Maps derived by with() share the state of the original map. Over a HashMap, changes are kept in
+// the array as an overlay, until it grows larger than MAX_ARRAY_SIZE and is merged into a new one.
+//
+// Extensions set by ExtensionKey are kept separately in a dense array indexed by the slot of the
+// key, so that getKeyed() reads them without hashing. Extensions with primitive values are kept
+// unboxed in PrimitiveExtensions and boxed only when read through the map view. Builders keep the
+// names of all three kinds of extensions disjoint.
+//
+// Entries are iterated in key order, so that rendering and serializing them needs no sorting. When
+// anything besides the sorted array is used, keys of all extensions are sorted into sortedKeys on
+// first iteration, so that maps derived by with() or built only to be read by key never sort.
+final class ExtensionMap extends AbstractMap<String, Object> implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static final int MAX_ARRAY_SIZE = 8;
+
+  private static final Object[] EMPTY_ENTRIES = new Object[0];
+
+  // value of an overlay entry hiding the entry of the table with the same key
+  private static final Object REMOVED = new Object();
+
+  static final ExtensionMap EMPTY = new ExtensionMap(EMPTY_ENTRIES, null, EMPTY_ENTRIES, null);
+
+  // keys at even indexes, values at odd indexes, sorted by key; if table is used, these override
+  // its entries
+  private final Object[] entries;
+
+  // hashed storage of larger or adopted maps, never modified
+  private final @Nullable Map<String, Object> table;
+
+  // number of entries set by name, with the overlay applied to the table
+  private final int namedSize;
+
+  // values of extensions set by ExtensionKey, indexed by ExtensionKey.getIndex(), null if not set
+  private final @Nullable Object[] keyed;
+  private final int keyedSize;
+
+  // extensions with unboxed primitive values, null if there are none
+  private final @Nullable PrimitiveExtensions primitives;
+
+  // keys of all extensions in iteration order, computed on first iteration and never if entries
+  // alone hold all of them in order; racing threads may sort them more than once
+  private transient volatile String @Nullable [] sortedKeys;
+
+  private transient @Nullable Set<Entry<String, Object>> entrySet;
+
+  private ExtensionMap(
+      Object[] entries,
+      @Nullable Map<String, Object> table,
+      @Nullable Object[] keyed,
+      @Nullable PrimitiveExtensions primitives) {
+    this.entries = entries;
+    this.table = table;
+    this.namedSize = namedSize(entries, table);
+    this.keyed = keyed;
+    this.keyedSize = countNonNull(keyed);
+    this.primitives = primitives;
+  }
+
+  private String @Nullable [] sortedKeys() {
+    if (table == null && keyedSize == 0 && primitives == null) {
+      return null;
+    }
+    String[] keys = sortedKeys;
+    if (keys == null) {
+      keys = sortKeys();
+      sortedKeys = keys;
+    }
+    return keys;
+  }
+
+  private String[] sortKeys() {
+    String[] keys = new String[size()];
+    int n = 0;
+    for (int i = 0; i < entries.length; i += 2) {
+      if (entries[i + 1] != REMOVED) {
+        keys[n++] = (String) entries[i];
+      }
+    }
+    if (table != null) {
+      for (String key : table.keySet()) {
+        if (indexOf(key) < 0) {
+          keys[n++] = key;
+        }
+      }
+    }
+    for (int i = 0; i < keyed.length; i++) {
+      if (keyed[i] != null) {
+        keys[n++] = ExtensionKey.at(i).getName();
+      }
+    }
+    for (int i = 0; primitives != null && i < primitives.size(); i++) {
+      keys[n++] = primitives.nameAt(i);
+    }
+    Arrays.sort(keys);
+    return keys;
+  }
+
+  private static int namedSize(Object[] entries, @Nullable Map<String, Object> table) {
+    if (table == null) {
+      return entries.length / 2;
+    }
+    int size = table.size();
+    for (int i = 0; i < entries.length; i += 2) {
+      if (entries[i + 1] == REMOVED) {
+        size--;
+      } else if (!table.containsKey(entries[i])) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  private static int countNonNull(@Nullable Object[] values) {
+    int count = 0;
+    for (Object value : values) {
+      if (value != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  // Returns an immutable copy of the map, or the map itself if it is already an immutable copy.
+  static Map<String, Object> copyOf(@Nullable Map<String, ? extends @Nullable Object> map) {
+    if (map instanceof ExtensionMap) {
+      return (ExtensionMap) map;
+    }
+    return copyOf(map, null, null);
+  }
+
+  // Returns an immutable copy of the map, of the values set by ExtensionKey and of the primitive
+  // values.
+  static Map<String, Object> copyOf(
+      @Nullable Map<String, ? extends @Nullable Object> map,
+      @Nullable Object @Nullable [] keyed,
+      @Nullable PrimitiveExtensions primitives) {
+    Object[] keyedCopy = trim(keyed);
+    PrimitiveExtensions primitivesCopy = trim(primitives);
+    if ((map == null || map.isEmpty()) && keyedCopy.length == 0 && primitivesCopy == null) {
+      return EMPTY;
+    }
+    if (map == null || map.isEmpty()) {
+      return new ExtensionMap(EMPTY_ENTRIES, null, keyedCopy, primitivesCopy);
+    }
+    if (map.size() > MAX_ARRAY_SIZE) {
+      return new ExtensionMap(
+          EMPTY_ENTRIES, new HashMap<String, Object>(map), keyedCopy, primitivesCopy);
+    }
+    Object[] entries = new Object[map.size() * 2];
+    int i = 0;
+    for (Map.Entry<String, ? extends @Nullable Object> entry : map.entrySet()) {
+      entries[i++] = entry.getKey();
+      entries[i++] = entry.getValue();
+    }
+    sortPairs(entries);
+    return new ExtensionMap(entries, null, keyedCopy, primitivesCopy);
+  }
+
+  // Sorts pairs of keys and values by key, by insertion sort, as there are only a few of them.
+  private static void sortPairs(Object[] entries) {
+    for (int i = 2; i < entries.length; i += 2) {
+      String key = (String) entries[i];
+      Object value = entries[i + 1];
+      int j = i - 2;
+      while (j >= 0 && ((String) entries[j]).compareTo(key) > 0) {
+        entries[j + 2] = entries[j];
+        entries[j + 3] = entries[j + 1];
+        j -= 2;
+      }
+      entries[j + 2] = key;
+      entries[j + 3] = value;
+    }
+  }
+
+  // Returns an immutable view of the map without copying it. The caller hands over the map and must
+  // not modify it afterwards.
+  static Map<String, Object> adopt(Map<String, Object> map) {
+    return adopt(map, null, null);
+  }
+
+  // Returns an immutable view of the map without copying it, with a copy of the values set by
+  // ExtensionKey and of the primitive values. The caller hands over the map and must not modify it
+  // afterwards.
+  static Map<String, Object> adopt(
+      Map<String, Object> map,
+      @Nullable Object @Nullable [] keyed,
+      @Nullable PrimitiveExtensions primitives) {
+    Object[] keyedCopy = trim(keyed);
+    PrimitiveExtensions primitivesCopy = trim(primitives);
+    if (map.isEmpty() && keyedCopy.length == 0 && primitivesCopy == null) {
+      return EMPTY;
+    }
+    return new ExtensionMap(
+        EMPTY_ENTRIES, !map.isEmpty() ? map : null, keyedCopy, primitivesCopy);
+  }
+
+  // Copy of the values without trailing nulls.
+  private static @Nullable Object[] trim(@Nullable Object @Nullable [] keyed) {
+    if (keyed == null) {
+      return EMPTY_ENTRIES;
+    }
+    int length = keyed.length;
+    while (length > 0 && keyed[length - 1] == null) {
+      length--;
+    }
+    if (length == 0) {
+      return EMPTY_ENTRIES;
+    }
+    Object[] copy = new Object[length];
+    System.arraycopy(keyed, 0, copy, 0, length);
+    return copy;
+  }
+
+  private static @Nullable PrimitiveExtensions trim(@Nullable PrimitiveExtensions primitives) {
+    return primitives != null && !primitives.isEmpty() ? primitives.copy() : null;
+  }
+
+  // Returns a map with the extension set to the value, or removed if the value is null. Unchanged
+  // state is shared with this map, which is never modified.
+  ExtensionMap with(String name, @Nullable Object value) {
+    if (Objects.equals(get(name), value)) {
+      return this;
+    }
+    @Nullable Object[] keyed = this.keyed;
+    int slot = slotOf(name);
+    if (slot >= 0) {
+      keyed = keyed.clone();
+      keyed[slot] = null;
+      keyed = trim(keyed);
+    }
+    PrimitiveExtensions primitives = this.primitives;
+    if (primitives != null && primitives.indexOf(name) >= 0) {
+      primitives = primitives.copy();
+      primitives.remove(name);
+      primitives = trim(primitives);
+    }
+    Object[] entries = this.entries;
+    Map<String, Object> table = this.table;
+    Object stored = value;
+    if (stored == null && table != null && table.containsKey(name)) {
+      stored = REMOVED;
+    }
+    int position = search(name);
+    int index = position >= 0 ? position * 2 : -1;
+    if (index >= 0 && stored == null) {
+      Object[] copy = new Object[entries.length - 2];
+      System.arraycopy(entries, 0, copy, 0, index);
+      System.arraycopy(entries, index + 2, copy, index, entries.length - index - 2);
+      entries = copy;
+    } else if (index >= 0) {
+      entries = entries.clone();
+      entries[index + 1] = stored;
+    } else if (stored != null) {
+      int insertion = (-position - 1) * 2;
+      Object[] copy = new Object[entries.length + 2];
+      System.arraycopy(entries, 0, copy, 0, insertion);
+      copy[insertion] = name;
+      copy[insertion + 1] = stored;
+      System.arraycopy(entries, insertion, copy, insertion + 2, entries.length - insertion);
+      entries = copy;
+    }
+    if (entries.length / 2 > MAX_ARRAY_SIZE) {
+      table = merge(entries, table);
+      entries = EMPTY_ENTRIES;
+    }
+    if (entries.length == 0 && table == null && keyed.length == 0 && primitives == null) {
+      return EMPTY;
+    }
+    return new ExtensionMap(entries, table, keyed, primitives);
+  }
+
+  // New table with the entries applied to the given one.
+  private static Map<String, Object> merge(Object[] entries, @Nullable Map<String, Object> table) {
+    Map<String, Object> merged = table != null ? new HashMap<>(table) : new HashMap<>();
+    for (int i = 0; i < entries.length; i += 2) {
+      String key = (String) entries[i];
+      if (entries[i + 1] == REMOVED) {
+        merged.remove(key);
+      } else {
+        merged.put(key, entries[i + 1]);
+      }
+    }
+    return merged;
+  }
+
+  // Value of the extension, read from the slot of the key if it was set by ExtensionKey, otherwise
+  // from the other extensions by name. Returns null if absent or not of the type of the key.
+  @SuppressWarnings("unchecked")
+  <T> @Nullable T getKeyed(ExtensionKey<T> key) {
+    int index = key.getIndex();
+    Object keyedValue = index >= 0 && index < keyed.length ? keyed[index] : null;
+    if (keyedValue != null) {
+      return (T) keyedValue;
+    }
+    Object value = get(key.getName());
+    return key.getType().isInstance(value) ? (T) value : null;
+  }
+
+  // Value of a numeric extension as a long, read without boxing if it was set as a primitive.
+  long getLong(String name, long defaultValue) {
+    PrimitiveExtensions primitives = this.primitives;
+    int index = primitives != null ? primitives.indexOf(name) : -1;
+    if (primitives != null && index >= 0) {
+      return primitives.isNumber(index) ? primitives.longValue(index) : defaultValue;
+    }
+    Object value = get(name);
+    return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+  }
+
+  // Value of a numeric extension as an int, read without boxing if it was set as a primitive.
+  int getInt(String name, int defaultValue) {
+    PrimitiveExtensions primitives = this.primitives;
+    int index = primitives != null ? primitives.indexOf(name) : -1;
+    if (primitives != null && index >= 0) {
+      return primitives.isNumber(index) ? primitives.intValue(index) : defaultValue;
+    }
+    Object value = get(name);
+    return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+  }
+
+  // Value of a numeric extension as a double, read without boxing if it was set as a primitive.
+  double getDouble(String name, double defaultValue) {
+    PrimitiveExtensions primitives = this.primitives;
+    int index = primitives != null ? primitives.indexOf(name) : -1;
+    if (primitives != null && index >= 0) {
+      return primitives.isNumber(index) ? primitives.doubleValue(index) : defaultValue;
+    }
+    Object value = get(name);
+    return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+  }
+
+  // Value of a boolean extension, read without boxing if it was set as a primitive.
+  boolean getBoolean(String name, boolean defaultValue) {
+    PrimitiveExtensions primitives = this.primitives;
+    int index = primitives != null ? primitives.indexOf(name) : -1;
+    if (primitives != null && index >= 0) {
+      return primitives.isBoolean(index) ? primitives.booleanValue(index) : defaultValue;
+    }
+    Object value = get(name);
+    return value instanceof Boolean ? (Boolean) value : defaultValue;
+  }
+
+  @Override
+  public int size() {
+    return namedSize + keyedSize + (primitives != null ? primitives.size() : 0);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(@Nullable Object key) {
+    int index = indexOf(key);
+    boolean named =
+        index >= 0 ? entries[index + 1] != REMOVED : table != null && table.containsKey(key);
+    return named || slotOf(key) >= 0 || (primitives != null && primitives.indexOf(key) >= 0);
+  }
+
+  @Override
+  public @Nullable Object get(@Nullable Object key) {
+    Object value = getNamed(key);
+    if (value == null && keyedSize > 0) {
+      int slot = slotOf(key);
+      value = slot >= 0 ? keyed[slot] : null;
+    }
+    PrimitiveExtensions primitives = this.primitives;
+    if (value == null && primitives != null) {
+      int index = primitives.indexOf(key);
+      value = index >= 0 ? primitives.box(index) : null;
+    }
+    return value;
+  }
+
+  private @Nullable Object getNamed(@Nullable Object key) {
+    int index = indexOf(key);
+    if (index >= 0) {
+      Object value = entries[index + 1];
+      return value != REMOVED ? value : null;
+    }
+    return table != null ? table.get(key) : null;
+  }
+
+  // Index of the key in entries, or -1 if absent.
+  private int indexOf(@Nullable Object key) {
+    if (!(key instanceof String) || entries.length == 0) {
+      return -1;
+    }
+    int position = search((String) key);
+    return position >= 0 ? position * 2 : -1;
+  }
+
+  // Position of the key among the keys of entries, or (-(insertion point) - 1) if absent, as
+  // returned by Arrays.binarySearch().
+  private int search(String key) {
+    int low = 0;
+    int high = entries.length / 2 - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int comparison = ((String) entries[mid * 2]).compareTo(key);
+      if (comparison < 0) {
+        low = mid + 1;
+      } else if (comparison > 0) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -(low + 1);
+  }
+
+  private int slotOf(@Nullable Object key) {
+    for (int i = 0; i < keyed.length; i++) {
+      if (keyed[i] != null && ExtensionKey.at(i).getName().equals(key)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  @Override
+  public Set<Entry<String, Object>> entrySet() {
+    Set<Entry<String, Object>> result = entrySet;
+    if (result == null) {
+      result = new EntrySet();
+      entrySet = result;
+    }
+    return result;
+  }
+
+  @Override
+  public @Nullable Object put(String key, Object value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public @Nullable Object remove(@Nullable Object key) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void putAll(Map<? extends String, ? extends Object> map) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  // Serialized as a HashMap, so that the serialized form of DefaultProblem does not change.
+  private Object writeReplace() {
+    return new HashMap<>(this);
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+    @Override
+    public int size() {
+      return ExtensionMap.this.size();
+    }
+
+    @Override
+    public Iterator<Entry<String, Object>> iterator() {
+      return new EntryIterator();
+    }
+  }
+
+  // Iterates entries in key order, from entries alone or by sortedKeys.
+  private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+    private final String @Nullable [] keys = sortedKeys();
+    private int index = 0;
+
+    @Override
+    public boolean hasNext() {
+      return index < (keys != null ? keys.length : entries.length / 2);
+    }
+
+    // values of maps copied by copyOf() may be null, like values of the source map
+    @SuppressWarnings("NullAway")
+    @Override
+    public Entry<String, Object> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int i = index++;
+      String[] keys = this.keys;
+      if (keys == null) {
+        return new SimpleImmutableEntry<>((String) entries[i * 2], entries[i * 2 + 1]);
+      }
+      return new SimpleImmutableEntry<>(keys[i], get(keys[i]));
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jspecify.annotations.Nullable;
+
+final class FieldAccessors {
+
+  private static final FieldAccessor MISSING = target -> null;
+
+  // Accessors are resolved once per (class, field name). Missing and inaccessible fields are cached
+  // as MISSING, so they cost a map lookup instead of a NoSuchFieldException per class level.
+  private static final ClassValue<ConcurrentMap<String, FieldAccessor>> ACCESSORS =
+      new ClassValue<ConcurrentMap<String, FieldAccessor>>() {
+        @Override
+        protected ConcurrentMap<String, FieldAccessor> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  static @Nullable Object read(Object target, String name) {
+    FieldAccessor accessor = find(target.getClass(), name);
+    if (accessor == MISSING) {
+      return null;
+    }
+    try {
+      return accessor.get(target);
+    } catch (Error e) {
+      throw e;
+    } catch (Throwable e) {
+      return null;
+    }
+  }
+
+  static FieldAccessor find(Class<?> type, String name) {
+    ConcurrentMap<String, FieldAccessor> accessors = ACCESSORS.get(type);
+    FieldAccessor accessor = accessors.get(name);
+    if (accessor == null) {
+      accessor = resolve(type, name);
+      FieldAccessor previous = accessors.putIfAbsent(name, accessor);
+      if (previous != null) {
+        accessor = previous;
+      }
+    }
+    return accessor;
+  }
+
+  private static FieldAccessor resolve(Class<?> type, String name) {
+    Class<?> search = type;
+    while (search != null && search != Object.class) {
+      Field field;
+      try {
+        field = search.getDeclaredField(name);
+      } catch (NoSuchFieldException ignored) {
+        // ignored, loop will go to parent class to see if that field exists there
+        search = search.getSuperclass();
+        continue;
+      } catch (Exception ignored) {
+        return MISSING;
+      }
+      try {
+        return FieldHandles.create(field);
+      } catch (Exception ignored) {
+        return MISSING;
+      }
+    }
+    return MISSING;
+  }
+
+  @FunctionalInterface
+  interface FieldAccessor {
+
+    @Nullable Object get(Object target) throws Throwable;
+  }
+
+  private FieldAccessors() {}
+}
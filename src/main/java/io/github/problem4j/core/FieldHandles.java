@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+// Java 8 variant. Java 9+ runtimes use the src/main9 variant packaged in the multi-release JAR.
+final class FieldHandles {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  static FieldAccessors.FieldAccessor create(Field field) throws ReflectiveOperationException {
+    field.setAccessible(true);
+    MethodHandle getter = LOOKUP.unreflectGetter(field);
+    if (Modifier.isStatic(field.getModifiers())) {
+      getter = MethodHandles.dropArguments(getter, 0, Object.class);
+    }
+    MethodHandle handle = getter.asType(GETTER_TYPE);
+    return target -> (Object) handle.invokeExact(target);
+  }
+
+  private FieldHandles() {}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static io.github.problem4j.core.ProblemSupport.isTypeBlank;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import org.jspecify.annotations.Nullable;
+
+// Problem returned by DefaultProblemMapper.toLazyProblem. Status is known upfront, while all other
+// fields are interpolated on first access, each at most once. Rendered fields are published by the
+// volatile write of the "rendered" bit set, which follows writes of the fields themselves, so reads
+// after a single volatile read of the bit set need no locking. Once all fields are rendered, the
+// mapper, mapping, throwable and context are released, so that problems kept for long (e.g. in a
+// cache) do not keep throwables with their stack traces reachable. Serialized as DefaultProblem.
+final class LazyProblem implements Problem, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final int TYPE = 1;
+  private static final int TITLE = 1 << 1;
+  private static final int DETAIL = 1 << 2;
+  private static final int INSTANCE = 1 << 3;
+  private static final int EXTENSIONS = 1 << 4;
+  private static final int ALL = TYPE | TITLE | DETAIL | INSTANCE | EXTENSIONS;
+
+  // sources of rendering, null once all fields are rendered
+  private transient @Nullable DefaultProblemMapper mapper;
+  private transient @Nullable ProblemMapping mapping;
+  private transient @Nullable Throwable t;
+  private transient @Nullable ProblemContext context;
+  private final int status;
+
+  private volatile int rendered = 0;
+
+  private transient URI type = Problem.BLANK_TYPE;
+  private transient String title = Problem.UNKNOWN_TITLE;
+  private transient @Nullable String detail = null;
+  private transient @Nullable URI instance = null;
+  private transient Map<String, Object> extensions = ExtensionMap.EMPTY;
+
+  LazyProblem(
+      DefaultProblemMapper mapper,
+      ProblemMapping mapping,
+      Throwable t,
+      @Nullable ProblemContext context) {
+    this.mapper = mapper;
+    this.mapping = mapping;
+    this.t = t;
+    this.context = context;
+    this.status = mapping.status() > 0 ? mapping.status() : 0;
+  }
+
+  @Override
+  public URI getType() {
+    if ((rendered & TYPE) == 0) {
+      render(TYPE);
+    }
+    return type;
+  }
+
+  @Override
+  public String getTitle() {
+    if ((rendered & TITLE) == 0) {
+      render(TITLE);
+    }
+    return title;
+  }
+
+  @Override
+  public int getStatus() {
+    return status;
+  }
+
+  @Override
+  public @Nullable String getDetail() {
+    if ((rendered & DETAIL) == 0) {
+      render(DETAIL);
+    }
+    return detail;
+  }
+
+  @Override
+  public @Nullable URI getInstance() {
+    if ((rendered & INSTANCE) == 0) {
+      render(INSTANCE);
+    }
+    return instance;
+  }
+
+  @Override
+  public Map<String, Object> getExtensions() {
+    if ((rendered & EXTENSIONS) == 0) {
+      render(EXTENSIONS);
+    }
+    return extensions;
+  }
+
+  private synchronized void render(int field) {
+    DefaultProblemMapper mapper = this.mapper;
+    ProblemMapping mapping = this.mapping;
+    Throwable t = this.t;
+    // sources are released only after all fields are rendered
+    if ((rendered & field) != 0 || mapper == null || mapping == null || t == null) {
+      return;
+    }
+    try {
+      switch (field) {
+        case TYPE:
+          type = renderType(mapper, mapping, t);
+          break;
+        case TITLE:
+          title = renderTitle(mapper, mapping, t);
+          break;
+        case DETAIL:
+          detail = renderDetail(mapper, mapping, t);
+          break;
+        case INSTANCE:
+          instance = renderInstance(mapper, mapping, t);
+          break;
+        default:
+          extensions = renderExtensions(mapper, mapping, t);
+          break;
+      }
+    } catch (ProblemMappingException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new ProblemMappingException(
+          "Unexpected failure while processing @ProblemMapping of " + t.getClass().getName(), e);
+    }
+    int all = rendered | field;
+    if (all == ALL) {
+      this.mapper = null;
+      this.mapping = null;
+      this.t = null;
+      this.context = null;
+    }
+    rendered = all;
+  }
+
+  private URI renderType(DefaultProblemMapper mapper, ProblemMapping mapping, Throwable t) {
+    String rawType = mapper.getRawType(mapping);
+    URI uri = !rawType.isEmpty() ? mapper.interpolateUri(rawType, t, context) : null;
+    return uri != null && !isTypeBlank(uri) ? uri : Problem.BLANK_TYPE;
+  }
+
+  private String renderTitle(DefaultProblemMapper mapper, ProblemMapping mapping, Throwable t) {
+    String rawTitle = mapper.getRawTitle(mapping);
+    String interpolated = !rawTitle.isEmpty() ? mapper.interpolate(rawTitle, t, context) : "";
+    if (!interpolated.isEmpty()) {
+      return interpolated;
+    }
+    return StatusTitleSupport.getResolver().resolve(status).orElse(Problem.UNKNOWN_TITLE);
+  }
+
+  private @Nullable String renderDetail(
+      DefaultProblemMapper mapper, ProblemMapping mapping, Throwable t) {
+    String rawDetail = mapper.getRawDetail(mapping);
+    String interpolated = !rawDetail.isEmpty() ? mapper.interpolate(rawDetail, t, context) : "";
+    return !interpolated.isEmpty() ? interpolated : null;
+  }
+
+  private @Nullable URI renderInstance(
+      DefaultProblemMapper mapper, ProblemMapping mapping, Throwable t) {
+    String rawInstance = mapper.getRawInstance(mapping);
+    return !rawInstance.isEmpty() ? mapper.interpolateUri(rawInstance, t, context) : null;
+  }
+
+  private Map<String, Object> renderExtensions(
+      DefaultProblemMapper mapper, ProblemMapping mapping, Throwable t) {
+    Map<String, Object> values = new HashMap<>();
+    for (String extension : mapping.extensions()) {
+      String name = extension.trim();
+      if (name.isEmpty()) {
+        continue;
+      }
+      Object value = mapper.resolvePlaceholderSource(t, name);
+      if (value != null && !(value instanceof String && ((String) value).isEmpty())) {
+        values.put(name, value);
+      }
+    }
+    return ExtensionMap.copyOf(values);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Problem)) {
+      return false;
+    }
+    return ProblemSupport.equals(this, (Problem) obj);
+  }
+
+  @Override
+  public int hashCode() {
+    return ProblemSupport.hashCode(this);
+  }
+
+  @Override
+  public String toString() {
+    return ProblemSupport.toString("Problem", this);
+  }
+
+  private Object writeReplace() {
+    return new DefaultProblem(
+        getType(), getTitle(), status, getDetail(), getInstance(), getExtensions());
+  }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+// Compiled form of a ProblemMapping, evaluated the same way as the apply*OnBuilder methods of
+// DefaultProblemMapper (when none of them is overridden). Templates are trimmed and parsed once,
+// blank extension names are dropped, and mappings without placeholders and extensions are
+// evaluated upfront into a prebuilt builder prototype.
+final class MappingPlan {
+
+  private final @Nullable PlaceholderTemplate type;
+  private final @Nullable PlaceholderTemplate title;
+  private final int status;
+  private final @Nullable PlaceholderTemplate detail;
+  private final @Nullable PlaceholderTemplate instance;
+  private final String[] extensions;
+  private final @Nullable DefaultProblemBuilder prototype;
+
+  private MappingPlan(ProblemMapping mapping) {
+    this.type = compile(mapping.type());
+    this.title = compile(mapping.title());
+    this.status = mapping.status() > 0 ? mapping.status() : 0;
+    this.detail = compile(mapping.detail());
+    this.instance = compile(mapping.instance());
+    this.extensions = compileExtensions(mapping.extensions());
+    this.prototype = isStatic() ? prebuild() : null;
+  }
+
+  static MappingPlan compile(ProblemMapping mapping) {
+    return new MappingPlan(mapping);
+  }
+
+  private static @Nullable PlaceholderTemplate compile(String template) {
+    String trimmed = template.trim();
+    return !trimmed.isEmpty() ? PlaceholderTemplate.of(trimmed) : null;
+  }
+
+  private static String[] compileExtensions(String[] extensions) {
+    List<String> names = new ArrayList<>(extensions.length);
+    for (String extension : extensions) {
+      String name = extension.trim();
+      if (!name.isEmpty()) {
+        names.add(name);
+      }
+    }
+    return names.toArray(new String[0]);
+  }
+
+  private boolean isStatic() {
+    return isLiteral(type)
+        && isLiteral(title)
+        && isLiteral(detail)
+        && isLiteral(instance)
+        && extensions.length == 0;
+  }
+
+  private static boolean isLiteral(@Nullable PlaceholderTemplate template) {
+    return template == null || template.isLiteral();
+  }
+
+  // Evaluates a mapping whose templates are all literals, so no throwable or mapper is needed.
+  private DefaultProblemBuilder prebuild() {
+    DefaultProblemBuilder builder = new DefaultProblemBuilder();
+    URI typeUri = type != null ? type.toUri() : null;
+    if (typeUri != null) {
+      builder.type(typeUri);
+    }
+    if (title != null && !title.valueAt(0).isEmpty()) {
+      builder.title(title.valueAt(0));
+    }
+    if (status > 0) {
+      builder.status(status);
+    }
+    if (detail != null && !detail.valueAt(0).isEmpty()) {
+      builder.detail(detail.valueAt(0));
+    }
+    URI instanceUri = instance != null ? instance.toUri() : null;
+    if (instanceUri != null) {
+      builder.instance(instanceUri);
+    }
+    builder.prebuild();
+    return builder;
+  }
+
+  // Builder prototype returning a shared Problem, if the mapping has no placeholders and extensions
+  @Nullable DefaultProblemBuilder getPrototype() {
+    return prototype;
+  }
+
+  ProblemBuilder toProblemBuilder(
+      Throwable t,
+      @Nullable ProblemContext context,
+      DefaultProblemMapper mapper,
+      @Nullable StringBuilder buffer) {
+    DefaultProblemBuilder prototype = this.prototype;
+    if (prototype != null) {
+      return new DefaultProblemBuilder(prototype);
+    }
+    DefaultProblemBuilder builder = new DefaultProblemBuilder();
+    apply(builder, t, context, mapper, buffer);
+    return builder;
+  }
+
+  private void apply(
+      ProblemBuilder builder,
+      Throwable t,
+      @Nullable ProblemContext context,
+      DefaultProblemMapper mapper,
+      @Nullable StringBuilder buffer) {
+    if (type != null) {
+      URI uri = toUri(type, t, context, mapper, buffer);
+      if (uri != null) {
+        builder.type(uri);
+      }
+    }
+    if (title != null) {
+      String value = render(title, t, context, mapper, buffer);
+      if (!value.isEmpty()) {
+        builder.title(value);
+      }
+    }
+    if (status > 0) {
+      builder.status(status);
+    }
+    if (detail != null) {
+      String value = render(detail, t, context, mapper, buffer);
+      if (!value.isEmpty()) {
+        builder.detail(value);
+      }
+    }
+    if (instance != null) {
+      URI uri = toUri(instance, t, context, mapper, buffer);
+      if (uri != null) {
+        builder.instance(uri);
+      }
+    }
+    for (String name : extensions) {
+      Object value = FieldAccessors.read(t, name);
+      if (value != null && !(value instanceof String && ((String) value).isEmpty())) {
+        builder.extension(name, value);
+      }
+    }
+  }
+
+  private static String render(
+      PlaceholderTemplate template,
+      Throwable t,
+      @Nullable ProblemContext context,
+      DefaultProblemMapper mapper,
+      @Nullable StringBuilder buffer) {
+    if (template.isLiteral()) {
+      return template.valueAt(0);
+    }
+    if (buffer == null) {
+      return template.render(t, context, mapper, new StringBuilder(template.getLengthHint()));
+    }
+    buffer.setLength(0);
+    return template.render(t, context, mapper, buffer);
+  }
+
+  private static @Nullable URI toUri(
+      PlaceholderTemplate template,
+      Throwable t,
+      @Nullable ProblemContext context,
+      DefaultProblemMapper mapper,
+      @Nullable StringBuilder buffer) {
+    if (template.isLiteral()) {
+      return template.toUri();
+    }
+    String value = render(template, t, context, mapper, buffer);
+    return !value.isEmpty() ? UriSupport.parse(value) : null;
+  }
+}
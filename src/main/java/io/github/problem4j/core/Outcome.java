@@ -0,0 +1,293 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Outcome of an operation, holding either a value on success or a {@link Problem} on failure.
+ *
+ * <p>Allows reporting problems on hot paths, such as validation, without throwing exceptions.
+ * Outcomes are passed along and combined with {@link #map(Function)} and {@link
+ * #flatMap(Function)}, which skip failures without allocating, and a {@link ProblemException} is
+ * created only at the boundary by {@link #orElseThrow()}. Exceptions thrown by code that cannot be
+ * changed are converted into failures once by {@link #failure(Throwable, ProblemMapper)} or {@link
+ * #attempt(Callable, ProblemMapper)}.
+ *
+ * <p>Outcomes are immutable. {@link #ok()} returns a shared instance.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * Outcome<User> user =
+ *     validateEmail(request.getEmail())
+ *         .flatMap(email -> validateAge(request.getAge()))
+ *         .map(age -> new User(request.getEmail(), age));
+ *
+ * return user.orElseThrow();
+ * }</pre>
+ *
+ * @param <T> type of the value
+ * @since 2.1.0
+ */
+public final class Outcome<T extends @Nullable Object> {
+
+  private static final Outcome<@Nullable Void> OK = new Outcome<>(null, null);
+
+  // null if this outcome is failed
+  private final T value;
+  private final @Nullable Problem problem;
+
+  private Outcome(T value, @Nullable Problem problem) {
+    this.value = value;
+    this.problem = problem;
+  }
+
+  /**
+   * Returns the shared successful outcome without a value.
+   *
+   * @return the successful outcome without a value
+   * @since 2.1.0
+   */
+  public static Outcome<@Nullable Void> ok() {
+    return OK;
+  }
+
+  /**
+   * Creates a successful outcome with the given value.
+   *
+   * @param value the value (may be {@code null})
+   * @param <T> type of the value
+   * @return a successful outcome
+   * @since 2.1.0
+   */
+  public static <T extends @Nullable Object> Outcome<T> success(T value) {
+    return new Outcome<>(value, null);
+  }
+
+  /**
+   * Creates a failed outcome with the given problem.
+   *
+   * @param problem the problem describing the failure
+   * @param <T> type of the value
+   * @return a failed outcome
+   * @throws NullPointerException if {@code problem} is {@code null}
+   * @since 2.1.0
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends @Nullable Object> Outcome<T> failure(Problem problem) {
+    Objects.requireNonNull(problem, "problem");
+    return (Outcome<T>) new Outcome<@Nullable Object>(null, problem);
+  }
+
+  /**
+   * Creates a failed outcome with the problem of the given throwable, as mapped by {@link
+   * ProblemMapper#toProblemBuilder(Throwable)}. The problem of a {@link ProblemException} is used
+   * as it is.
+   *
+   * @param t the caught throwable
+   * @param mapper the mapper converting the throwable into a problem
+   * @param <T> type of the value
+   * @return a failed outcome
+   * @throws ProblemMappingException when something goes wrong while building the problem
+   * @since 2.1.0
+   */
+  public static <T extends @Nullable Object> Outcome<T> failure(Throwable t, ProblemMapper mapper) {
+    return failure(t, mapper, null);
+  }
+
+  /**
+   * Creates a failed outcome with the problem of the given throwable, as mapped by {@link
+   * ProblemMapper#toProblemBuilder(Throwable, ProblemContext)}. The problem of a {@link
+   * ProblemException} is used as it is.
+   *
+   * @param t the caught throwable
+   * @param mapper the mapper converting the throwable into a problem
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @param <T> type of the value
+   * @return a failed outcome
+   * @throws ProblemMappingException when something goes wrong while building the problem
+   * @since 2.1.0
+   */
+  public static <T extends @Nullable Object> Outcome<T> failure(
+      Throwable t, ProblemMapper mapper, @Nullable ProblemContext context) {
+    if (t instanceof ProblemException) {
+      return failure(((ProblemException) t).getProblem());
+    }
+    return failure(mapper.toProblemBuilder(t, context).build());
+  }
+
+  /**
+   * Calls the given action and returns its result as a successful outcome, or the exception it
+   * throws as a failed outcome, as by {@link #failure(Throwable, ProblemMapper)}. Errors are not
+   * caught. If the action throws {@link InterruptedException}, the interrupt status of the current
+   * thread is restored before the exception is mapped.
+   *
+   * @param action the action to call
+   * @param mapper the mapper converting exceptions of the action into problems
+   * @param <T> type of the value
+   * @return the outcome of the action
+   * @since 2.1.0
+   */
+  public static <T extends @Nullable Object> Outcome<T> attempt(
+      Callable<? extends T> action, ProblemMapper mapper) {
+    T value;
+    try {
+      value = action.call();
+    } catch (Exception e) {
+      if (e instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+      }
+      return failure(e, mapper);
+    }
+    return success(value);
+  }
+
+  /**
+   * Returns whether this outcome is successful.
+   *
+   * @return {@code true} if this outcome holds a value, {@code false} if it holds a problem
+   * @since 2.1.0
+   */
+  public boolean isSuccess() {
+    return problem == null;
+  }
+
+  /**
+   * Returns whether this outcome is failed.
+   *
+   * @return {@code true} if this outcome holds a problem, {@code false} if it holds a value
+   * @since 2.1.0
+   */
+  public boolean isFailure() {
+    return problem != null;
+  }
+
+  /**
+   * Returns the problem of a failed outcome.
+   *
+   * @return the problem, or {@code null} if this outcome is successful
+   * @since 2.1.0
+   */
+  public @Nullable Problem getProblem() {
+    return problem;
+  }
+
+  /**
+   * Applies the given function to the value of a successful outcome. A failed outcome is returned
+   * as it is.
+   *
+   * @param mapper the function to apply to the value
+   * @param <U> type of the result of the function
+   * @return a successful outcome with the result of the function, or this failed outcome
+   * @since 2.1.0
+   */
+  @SuppressWarnings("unchecked")
+  public <U extends @Nullable Object> Outcome<U> map(Function<? super T, ? extends U> mapper) {
+    if (problem != null) {
+      return (Outcome<U>) this;
+    }
+    U result = mapper.apply(value);
+    return result == value ? (Outcome<U>) this : success(result);
+  }
+
+  /**
+   * Applies the given outcome-returning function to the value of a successful outcome. A failed
+   * outcome is returned as it is.
+   *
+   * @param mapper the function to apply to the value
+   * @param <U> type of the value of the outcome returned by the function
+   * @return the outcome returned by the function, or this failed outcome
+   * @since 2.1.0
+   */
+  @SuppressWarnings("unchecked")
+  public <U extends @Nullable Object> Outcome<U> flatMap(
+      Function<? super T, ? extends Outcome<U>> mapper) {
+    if (problem != null) {
+      return (Outcome<U>) this;
+    }
+    return Objects.requireNonNull(mapper.apply(value), "mapper returned null outcome");
+  }
+
+  /**
+   * Returns the value of a successful outcome, or the given value if this outcome is failed.
+   *
+   * @param other the value to return on failure (may be {@code null})
+   * @return the value of this outcome, or {@code other}
+   * @since 2.1.0
+   */
+  public T orElse(T other) {
+    return problem == null ? value : other;
+  }
+
+  /**
+   * Returns the value of a successful outcome, or throws a {@link ProblemException} with the
+   * problem of a failed outcome.
+   *
+   * @return the value of this outcome
+   * @throws ProblemException if this outcome is failed
+   * @since 2.1.0
+   */
+  public T orElseThrow() {
+    return orElseThrow(ProblemException::new);
+  }
+
+  /**
+   * Returns the value of a successful outcome, or throws the exception created by the given
+   * function from the problem of a failed outcome, for example by {@code
+   * ProblemException::stackless}.
+   *
+   * @param exceptionFactory the function creating the exception to throw
+   * @param <X> type of the exception
+   * @return the value of this outcome
+   * @throws X if this outcome is failed
+   * @since 2.1.0
+   */
+  public <X extends Throwable> T orElseThrow(
+      Function<? super Problem, ? extends X> exceptionFactory) throws X {
+    Problem problem = this.problem;
+    if (problem != null) {
+      throw exceptionFactory.apply(problem);
+    }
+    return value;
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Outcome)) {
+      return false;
+    }
+    Outcome<?> other = (Outcome<?>) obj;
+    return Objects.equals(value, other.value) && Objects.equals(problem, other.problem);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, problem);
+  }
+
+  @Override
+  public String toString() {
+    return problem != null ? "Outcome[problem=" + problem + "]" : "Outcome[value=" + value + "]";
+  }
+}
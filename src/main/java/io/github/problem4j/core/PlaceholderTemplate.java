@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jspecify.annotations.Nullable;
+
+// Immutable, pre-parsed form of a @ProblemMapping template. A template is split once into literal
+// and placeholder segments, so rendering does not need to run a regular expression. Parsing
+// follows DefaultProblemMapper.PLACEHOLDER_REGEX - an opening brace, at least one character that is
+// not a closing brace, and the nearest closing brace.
+final class PlaceholderTemplate {
+
+  static final int LITERAL = 0;
+  static final int MESSAGE = 1;
+  static final int CONTEXT = 2;
+  static final int FIELD = 3;
+
+  // Templates come from annotation values, so the set of distinct templates is small. The bound
+  // only protects against subclasses of DefaultProblemMapper interpolating dynamic strings.
+  private static final int MAX_CACHED_TEMPLATES = 1024;
+
+  private static final ConcurrentMap<String, PlaceholderTemplate> TEMPLATES =
+      new ConcurrentHashMap<>();
+
+  private final int[] kinds;
+  private final String[] values;
+  private final int lengthHint;
+
+  // URI of a literal template, parsed on first use by toUri()
+  private volatile @Nullable URI uri;
+
+  private PlaceholderTemplate(int[] kinds, String[] values, int lengthHint) {
+    this.kinds = kinds;
+    this.values = values;
+    this.lengthHint = lengthHint;
+  }
+
+  static PlaceholderTemplate of(String template) {
+    PlaceholderTemplate compiled = TEMPLATES.get(template);
+    if (compiled != null) {
+      return compiled;
+    }
+    compiled = compile(template);
+    if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+      PlaceholderTemplate previous = TEMPLATES.putIfAbsent(template, compiled);
+      if (previous != null) {
+        return previous;
+      }
+    }
+    return compiled;
+  }
+
+  static PlaceholderTemplate compile(String template) {
+    List<Integer> kinds = new ArrayList<>();
+    List<String> values = new ArrayList<>();
+    int literalLength = 0;
+
+    int literalStart = 0;
+    int searchFrom = 0;
+    while (true) {
+      int open = template.indexOf('{', searchFrom);
+      if (open < 0) {
+        break;
+      }
+      int close = template.indexOf('}', open + 1);
+      if (close < 0) {
+        break;
+      }
+      if (close == open + 1) {
+        // "{}" is not a placeholder, keep it as a literal and look for the next opening brace
+        searchFrom = open + 1;
+        continue;
+      }
+      if (open > literalStart) {
+        kinds.add(LITERAL);
+        values.add(template.substring(literalStart, open));
+        literalLength += open - literalStart;
+      }
+      String key = template.substring(open + 1, close);
+      if (DefaultProblemMapper.MESSAGE_LABEL.equals(key)) {
+        kinds.add(MESSAGE);
+        values.add(key);
+      } else if (key.startsWith(DefaultProblemMapper.CONTEXT_LABEL_PREFIX)) {
+        kinds.add(CONTEXT);
+        values.add(key.substring(DefaultProblemMapper.CONTEXT_LABEL_PREFIX.length()));
+      } else {
+        kinds.add(FIELD);
+        values.add(key);
+      }
+      literalStart = close + 1;
+      searchFrom = close + 1;
+    }
+    if (literalStart < template.length() || kinds.isEmpty()) {
+      kinds.add(LITERAL);
+      values.add(template.substring(literalStart));
+      literalLength += template.length() - literalStart;
+    }
+
+    int[] kindArray = new int[kinds.size()];
+    for (int i = 0; i < kindArray.length; i++) {
+      kindArray[i] = kinds.get(i);
+    }
+    int placeholders = kindArray.length - countLiterals(kindArray);
+    return new PlaceholderTemplate(
+        kindArray, values.toArray(new String[0]), literalLength + 16 * placeholders);
+  }
+
+  private static int countLiterals(int[] kinds) {
+    int count = 0;
+    for (int kind : kinds) {
+      if (kind == LITERAL) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  // true if the template has no placeholders and renders to its own text
+  boolean isLiteral() {
+    return kinds.length == 1 && kinds[0] == LITERAL;
+  }
+
+  // URI of a literal template, parsed once; null if the template is not a valid URI
+  @Nullable URI toUri() {
+    URI result = uri;
+    if (result == null) {
+      result = UriSupport.parseUncached(values[0]);
+      uri = result;
+    }
+    return UriSupport.isValid(result) ? result : null;
+  }
+
+  // Appends the rendered template to the buffer and returns the buffer content. Missing values
+  // render as empty strings, fields are resolved by DefaultProblemMapper.resolvePlaceholderSource.
+  String render(
+      Throwable t,
+      @Nullable ProblemContext context,
+      DefaultProblemMapper mapper,
+      StringBuilder sb) {
+    for (int i = 0; i < kinds.length; i++) {
+      String value = values[i];
+      switch (kinds[i]) {
+        case LITERAL:
+          sb.append(value);
+          break;
+        case MESSAGE:
+          String message = t.getMessage();
+          if (message != null) {
+            sb.append(message);
+          }
+          break;
+        case CONTEXT:
+          String contextValue = context != null ? context.get(value) : null;
+          if (contextValue != null) {
+            sb.append(contextValue);
+          }
+          break;
+        default:
+          Object fieldValue = mapper.resolvePlaceholderSource(t, value);
+          if (fieldValue != null) {
+            sb.append(fieldValue);
+          }
+          break;
+      }
+    }
+    return sb.toString();
+  }
+
+  int size() {
+    return kinds.length;
+  }
+
+  int kindAt(int index) {
+    return kinds[index];
+  }
+
+  // literal text for LITERAL, context key without prefix for CONTEXT, field name for FIELD
+  String valueAt(int index) {
+    return values[index];
+  }
+
+  int getLengthHint() {
+    return lengthHint;
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.util.Arrays;
+import org.jspecify.annotations.Nullable;
+
+// Extensions with primitive values, stored unboxed in parallel arrays of names, raw bits and kinds.
+// Values are boxed only when read through the map view of ExtensionMap, into the same wrapper type
+// as autoboxing of the value would produce. Floating-point values (float widened to double) are
+// kept as double bits. Builders modify their own
+// instance, while ExtensionMap keeps a trimmed copy that is never modified.
+final class PrimitiveExtensions {
+
+  static final byte LONG = 1;
+  static final byte INT = 2;
+  static final byte DOUBLE = 3;
+  static final byte BOOLEAN = 4;
+  static final byte BYTE = 5;
+  static final byte SHORT = 6;
+  static final byte CHAR = 7;
+  static final byte FLOAT = 8;
+
+  private static final String[] EMPTY_NAMES = new String[0];
+
+  private String[] names;
+  private long[] bits;
+  private byte[] kinds;
+  private int size;
+
+  PrimitiveExtensions() {
+    this(EMPTY_NAMES, new long[0], new byte[0], 0);
+  }
+
+  private PrimitiveExtensions(String[] names, long[] bits, byte[] kinds, int size) {
+    this.names = names;
+    this.bits = bits;
+    this.kinds = kinds;
+    this.size = size;
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  String nameAt(int index) {
+    return names[index];
+  }
+
+  int indexOf(@Nullable Object name) {
+    for (int i = 0; i < size; i++) {
+      if (names[i].equals(name)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  void put(String name, byte kind, long value) {
+    int index = indexOf(name);
+    if (index < 0) {
+      if (size == names.length) {
+        int capacity = Math.max(size * 2, 4);
+        names = Arrays.copyOf(names, capacity);
+        bits = Arrays.copyOf(bits, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+      }
+      index = size++;
+      names[index] = name;
+    }
+    bits[index] = value;
+    kinds[index] = kind;
+  }
+
+  void remove(@Nullable Object name) {
+    int index = indexOf(name);
+    if (index >= 0) {
+      size--;
+      names[index] = names[size];
+      bits[index] = bits[size];
+      kinds[index] = kinds[size];
+    }
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  // Copy of this instance with arrays of exactly its size.
+  PrimitiveExtensions copy() {
+    return new PrimitiveExtensions(
+        Arrays.copyOf(names, size), Arrays.copyOf(bits, size), Arrays.copyOf(kinds, size), size);
+  }
+
+  boolean isNumber(int index) {
+    return kinds[index] != BOOLEAN && kinds[index] != CHAR;
+  }
+
+  boolean isBoolean(int index) {
+    return kinds[index] == BOOLEAN;
+  }
+
+  private boolean isFloating(int index) {
+    return kinds[index] == DOUBLE || kinds[index] == FLOAT;
+  }
+
+  long longValue(int index) {
+    return isFloating(index) ? (long) Double.longBitsToDouble(bits[index]) : bits[index];
+  }
+
+  int intValue(int index) {
+    return isFloating(index) ? (int) Double.longBitsToDouble(bits[index]) : (int) bits[index];
+  }
+
+  double doubleValue(int index) {
+    return isFloating(index) ? Double.longBitsToDouble(bits[index]) : bits[index];
+  }
+
+  boolean booleanValue(int index) {
+    return bits[index] != 0;
+  }
+
+  Object box(int index) {
+    switch (kinds[index]) {
+      case INT:
+        return Integer.valueOf((int) bits[index]);
+      case DOUBLE:
+        return Double.valueOf(Double.longBitsToDouble(bits[index]));
+      case BOOLEAN:
+        return Boolean.valueOf(bits[index] != 0);
+      case BYTE:
+        return Byte.valueOf((byte) bits[index]);
+      case SHORT:
+        return Short.valueOf((short) bits[index]);
+      case CHAR:
+        return Character.valueOf((char) bits[index]);
+      case FLOAT:
+        return Float.valueOf((float) Double.longBitsToDouble(bits[index]));
+      default:
+        return Long.valueOf(bits[index]);
+    }
+  }
+}
@@ -78,12 +78,15 @@ static ProblemBuilder builder() {
   /**
    * Creates a new {@link Problem} instance with the given HTTP status code.
    *
+   * <p>Problems with only a status are immutable and depend on nothing else, so the same shared
+   * instance is returned for each status.
+   *
    * @param status the HTTP status code applicable to this problem
-   * @return a new {@link Problem} instance
+   * @return a {@link Problem} instance
    * @since 1.4.0
    */
   static Problem of(int status) {
-    return builder().status(status).build();
+    return StatusProblems.of(status);
   }
 
   /**
@@ -229,6 +232,143 @@ default Map<String, Object> getExtensions() {
     return emptyMap();
   }
 
+  /**
+   * Returns the value of the extension with the given typed key.
+   *
+   * <p>The default implementation looks the value up in {@link #getExtensions()} by the name of
+   * the key.
+   *
+   * @param key the typed key of the extension
+   * @param <T> type of the extension value
+   * @return the extension value, or {@code null} if absent or not of the type of the key
+   * @since 2.1.0
+   */
+  default <T> @Nullable T getExtension(ExtensionKey<T> key) {
+    Object value = getExtensions().get(key.getName());
+    return key.getType().isInstance(value) ? key.getType().cast(value) : null;
+  }
+
+  /**
+   * Returns the value of a numeric extension as {@code long}, converted as by {@link
+   * Number#longValue()}.
+   *
+   * <p>The default implementation looks the value up in {@link #getExtensions()}.
+   *
+   * @param name the extension name
+   * @param defaultValue the value to return if the extension is absent or not a number
+   * @return the extension value, or {@code defaultValue}
+   * @since 2.1.0
+   */
+  default long getLongExtension(String name, long defaultValue) {
+    Object value = getExtensions().get(name);
+    return value instanceof Number ? ((Number) value).longValue() : defaultValue;
+  }
+
+  /**
+   * Returns the value of a numeric extension as {@code int}, converted as by {@link
+   * Number#intValue()}.
+   *
+   * <p>The default implementation looks the value up in {@link #getExtensions()}.
+   *
+   * @param name the extension name
+   * @param defaultValue the value to return if the extension is absent or not a number
+   * @return the extension value, or {@code defaultValue}
+   * @since 2.1.0
+   */
+  default int getIntExtension(String name, int defaultValue) {
+    Object value = getExtensions().get(name);
+    return value instanceof Number ? ((Number) value).intValue() : defaultValue;
+  }
+
+  /**
+   * Returns the value of a numeric extension as {@code double}, converted as by {@link
+   * Number#doubleValue()}.
+   *
+   * <p>The default implementation looks the value up in {@link #getExtensions()}.
+   *
+   * @param name the extension name
+   * @param defaultValue the value to return if the extension is absent or not a number
+   * @return the extension value, or {@code defaultValue}
+   * @since 2.1.0
+   */
+  default double getDoubleExtension(String name, double defaultValue) {
+    Object value = getExtensions().get(name);
+    return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+  }
+
+  /**
+   * Returns the value of a boolean extension.
+   *
+   * <p>The default implementation looks the value up in {@link #getExtensions()}.
+   *
+   * @param name the extension name
+   * @param defaultValue the value to return if the extension is absent or not a boolean
+   * @return the extension value, or {@code defaultValue}
+   * @since 2.1.0
+   */
+  default boolean getBooleanExtension(String name, boolean defaultValue) {
+    Object value = getExtensions().get(name);
+    return value instanceof Boolean ? (Boolean) value : defaultValue;
+  }
+
+  /**
+   * Returns a problem equal to this one, except for the given detail. This problem is not modified.
+   *
+   * <p>The default implementation builds the problem with {@link #toBuilder()}.
+   *
+   * @param detail a human-readable explanation specific to this occurrence of the problem (may be
+   *     {@code null})
+   * @return a problem with the given detail
+   * @since 2.1.0
+   */
+  default Problem withDetail(@Nullable String detail) {
+    return toBuilder().detail(detail).build();
+  }
+
+  /**
+   * Returns a problem equal to this one, except for the given instance. This problem is not
+   * modified.
+   *
+   * <p>The default implementation builds the problem with {@link #toBuilder()}.
+   *
+   * @param instance the URI identifying the specific occurrence of the problem (may be {@code
+   *     null})
+   * @return a problem with the given instance
+   * @since 2.1.0
+   */
+  default Problem withInstance(@Nullable URI instance) {
+    return toBuilder().instance(instance).build();
+  }
+
+  /**
+   * Returns a problem equal to this one, except for the instance given as a string representation
+   * of a URI. This problem is not modified.
+   *
+   * @param instance string URI identifying the specific occurrence of the problem (may be {@code
+   *     null})
+   * @return a problem with the given instance
+   * @throws IllegalArgumentException if the string is not a valid URI
+   * @since 2.1.0
+   */
+  default Problem withInstance(@Nullable String instance) {
+    return withInstance(instance != null ? URI.create(instance) : null);
+  }
+
+  /**
+   * Returns a problem equal to this one, except for the given extension. If {@code value} is {@code
+   * null}, the extension with the given {@code name} is removed. This problem is not modified.
+   *
+   * <p>The default implementation builds the problem with {@link #toBuilder()}.
+   *
+   * @param name the extension key
+   * @param value the extension value, or {@code null} to remove
+   * @return a problem with the given extension
+   * @since 2.1.0
+   */
+  default Problem withExtension(String name, @Nullable Object value) {
+    return toBuilder().extension(name, value).build();
+  }
+
   /**
    * Converts this problem instance into a {@link Problem} builder, pre-populated with its values.
    * Useful for creating a modified copy.
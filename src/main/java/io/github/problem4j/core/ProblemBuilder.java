@@ -110,6 +110,142 @@ default ProblemBuilder instance(@Nullable String instance) {
    */
   ProblemBuilder extension(String name, @Nullable Object value);
 
+  /**
+   * Adds a single custom extension with a primitive {@code long} value, replacing any extension
+   * with the same {@code name}. The value is included in {@link Problem#getExtensions()} as {@link
+   * Long}.
+   *
+   * <p>The default implementation boxes the value and delegates to {@link
+   * #extension(String, Object)}.
+   *
+   * @param name the extension key
+   * @param value the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder extension(String name, long value) {
+    return extension(name, Long.valueOf(value));
+  }
+
+  /**
+   * Adds a single custom extension with a primitive {@code int} value, replacing any extension with
+   * the same {@code name}. The value is included in {@link Problem#getExtensions()} as {@link
+   * Integer}.
+   *
+   * <p>The default implementation boxes the value and delegates to {@link
+   * #extension(String, Object)}.
+   *
+   * @param name the extension key
+   * @param value the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder extension(String name, int value) {
+    return extension(name, Integer.valueOf(value));
+  }
+
+  /**
+   * Adds a single custom extension with a primitive {@code double} value, replacing any extension
+   * with the same {@code name}. The value is included in {@link Problem#getExtensions()} as {@link
+   * Double}.
+   *
+   * <p>The default implementation boxes the value and delegates to {@link
+   * #extension(String, Object)}.
+   *
+   * @param name the extension key
+   * @param value the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder extension(String name, double value) {
+    return extension(name, Double.valueOf(value));
+  }
+
+  /**
+   * Adds a single custom extension with a primitive {@code boolean} value, replacing any extension
+   * with the same {@code name}. The value is included in {@link Problem#getExtensions()} as {@link
+   * Boolean}.
+   *
+   * <p>The default implementation boxes the value and delegates to {@link
+   * #extension(String, Object)}.
+   *
+   * @param name the extension key
+   * @param value the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder extension(String name, boolean value) {
+    return extension(name, Boolean.valueOf(value));
+  }
+
+  /**
+   * Adds a single custom extension with a primitive {@code byte} value, replacing any extension
+   * with the same {@code name}. The value is included in {@link Problem#getExtensions()} as {@link
+   * Byte}.
+   *
+   * <p>The default implementation boxes the value and delegates to {@link
+   * #extension(String, Object)}.
+   *
+   * @param name the extension key
+   * @param value the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder extension(String name, byte value) {
+    return extension(name, Byte.valueOf(value));
+  }
+
+  /**
+   * Adds a single custom extension with a primitive {@code short} value, replacing any extension
+   * with the same {@code name}. The value is included in {@link Problem#getExtensions()} as {@link
+   * Short}.
+   *
+   * <p>The default implementation boxes the value and delegates to {@link
+   * #extension(String, Object)}.
+   *
+   * @param name the extension key
+   * @param value the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder extension(String name, short value) {
+    return extension(name, Short.valueOf(value));
+  }
+
+  /**
+   * Adds a single custom extension with a primitive {@code char} value, replacing any extension
+   * with the same {@code name}. The value is included in {@link Problem#getExtensions()} as {@link
+   * Character}.
+   *
+   * <p>The default implementation boxes the value and delegates to {@link
+   * #extension(String, Object)}.
+   *
+   * @param name the extension key
+   * @param value the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder extension(String name, char value) {
+    return extension(name, Character.valueOf(value));
+  }
+
+  /**
+   * Adds a single custom extension with a primitive {@code float} value, replacing any extension
+   * with the same {@code name}. The value is included in {@link Problem#getExtensions()} as {@link
+   * Float}.
+   *
+   * <p>The default implementation boxes the value and delegates to {@link
+   * #extension(String, Object)}.
+   *
+   * @param name the extension key
+   * @param value the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder extension(String name, float value) {
+    return extension(name, Float.valueOf(value));
+  }
+
   /**
    * Adds multiple custom extensions from a map. If the value of any provided extension is {@code
    * null} and an extension with the same key already exists, it will be removed.
@@ -166,6 +302,54 @@ default ProblemBuilder extensions(Iterable<? extends Problem.Extension> extensio
     return this;
   }
 
+  /**
+   * Adds an extension by its typed key. A {@code null} value removes the extension. The extension
+   * is included in {@link Problem#getExtensions()} under the name of the key.
+   *
+   * <p>The default implementation delegates to {@link #extension(String, Object)}.
+   *
+   * @param key the typed key of the extension
+   * @param value the extension value (may be {@code null})
+   * @param <T> type of the extension value
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default <T> ProblemBuilder extension(ExtensionKey<T> key, @Nullable T value) {
+    return extension(key.getName(), value);
+  }
+
+  /**
+   * Switches this builder to single-use mode, in which {@link #build()} hands the internal storage
+   * of extensions over to the built {@link Problem} instead of copying it.
+   *
+   * <p>The builder remains usable after {@link #build()}. Its next modification of extensions
+   * copies the storage first, so that problems already built are never affected. Single-use mode
+   * pays off for the common build-once-then-discard pattern, especially with many extensions.
+   *
+   * <p>The default implementation does nothing and returns this builder.
+   *
+   * @return this builder instance for chaining
+   * @since 2.1.0
+   */
+  default ProblemBuilder oneShot() {
+    return this;
+  }
+
+  /**
+   * Resets this builder to the state of a new builder, so that it can be reused to build another
+   * {@link Problem}. Problems already built are not affected.
+   *
+   * <p>The default implementation throws {@link UnsupportedOperationException}.
+   *
+   * @return this builder instance for chaining
+   * @throws UnsupportedOperationException if this builder cannot be reset
+   * @since 2.1.0
+   * @see ProblemBuilderPool
+   */
+  default ProblemBuilder reset() {
+    throw new UnsupportedOperationException("reset");
+  }
+
   /**
    * Builds an immutable {@link Problem} instance with the configured properties and extensions.
    *
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Pool of reusable {@link ProblemBuilder} instances for code paths creating problems at a high
+ * rate, such as validation of request payloads.
+ *
+ * <p>A builder acquired from the pool is confined to the acquiring thread until it is released.
+ * Released builders are {@link ProblemBuilder#reset() reset} and kept for the next {@link
+ * #acquire()}, so that neither the builder nor its storage of extensions is allocated again.
+ * Problems built before release are not affected by the reuse of their builder.
+ *
+ * <p>Builders are kept in a fixed number of slots. Threads start their search at a slot derived
+ * from their id, so that concurrent threads rarely contend for the same slot, and claim it with a
+ * single atomic operation. The pool does not use {@link ThreadLocal}, so it is safe to use from
+ * virtual threads and does not retain builders per thread. When all slots are empty a new builder
+ * is created, and when all slots are full a released builder is discarded.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * ProblemBuilderPool pool = ProblemBuilderPool.create();
+ *
+ * Problem problem = pool.build(builder -> builder.status(400).extension("field", "email"));
+ * }</pre>
+ *
+ * @since 2.1.0
+ */
+public final class ProblemBuilderPool {
+
+  private static final int DEFAULT_CAPACITY = 64;
+
+  // number of slots inspected by acquire() and release() before giving up
+  private static final int PROBES = 4;
+
+  private final AtomicReferenceArray<DefaultProblemBuilder> slots;
+  private final int mask;
+
+  private ProblemBuilderPool(int capacity) {
+    int size = Integer.highestOneBit(Math.max(capacity, 1) - 1) << 1;
+    this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+    this.mask = slots.length() - 1;
+  }
+
+  /**
+   * Creates a new, empty pool with the default capacity.
+   *
+   * @return a new {@link ProblemBuilderPool} instance
+   * @since 2.1.0
+   */
+  public static ProblemBuilderPool create() {
+    return new ProblemBuilderPool(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Creates a new, empty pool keeping up to {@code capacity} (rounded up to a power of two) idle
+   * builders.
+   *
+   * @param capacity maximum number of idle builders
+   * @return a new {@link ProblemBuilderPool} instance
+   * @throws IllegalArgumentException if {@code capacity} is not positive
+   * @since 2.1.0
+   */
+  public static ProblemBuilderPool create(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    return new ProblemBuilderPool(capacity);
+  }
+
+  /**
+   * Returns an idle builder from the pool, or a new builder if none is available. The builder is
+   * in the same state as one returned by {@link Problem#builder()}.
+   *
+   * @return a {@link ProblemBuilder} instance, to be {@link #release(ProblemBuilder) released}
+   *     after use
+   * @since 2.1.0
+   */
+  public ProblemBuilder acquire() {
+    int start = probeStart();
+    for (int i = 0; i < PROBES; i++) {
+      DefaultProblemBuilder builder = slots.getAndSet((start + i) & mask, null);
+      if (builder != null) {
+        builder.acquiredFrom(this);
+        return builder;
+      }
+    }
+    DefaultProblemBuilder builder = new DefaultProblemBuilder();
+    builder.acquiredFrom(this);
+    return builder;
+  }
+
+  /**
+   * Resets the builder and returns it to the pool. The builder must not be used by the caller
+   * afterwards. Builders not currently acquired from this pool, including builders released
+   * already, are ignored, so that a builder is never handed out to two callers at once.
+   *
+   * @param builder the builder acquired from this pool
+   * @since 2.1.0
+   */
+  public void release(ProblemBuilder builder) {
+    if (!(builder instanceof DefaultProblemBuilder)
+        || !((DefaultProblemBuilder) builder).releaseTo(this)) {
+      return;
+    }
+    DefaultProblemBuilder pooled = (DefaultProblemBuilder) builder;
+    pooled.reset();
+    int start = probeStart();
+    for (int i = 0; i < PROBES; i++) {
+      if (slots.compareAndSet((start + i) & mask, null, pooled)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Builds a {@link Problem} with a pooled builder configured by the given function, releasing the
+   * builder afterwards.
+   *
+   * @param configurer function setting the fields of the problem on the builder
+   * @return the built {@link Problem}
+   * @since 2.1.0
+   */
+  public Problem build(Consumer<? super ProblemBuilder> configurer) {
+    ProblemBuilder builder = acquire();
+    try {
+      configurer.accept(builder);
+      return builder.build();
+    } finally {
+      release(builder);
+    }
+  }
+
+  // Thread ids are sequential, so they are spread to keep probes of consecutive threads apart.
+  private static int probeStart() {
+    long id = Thread.currentThread().getId();
+    return (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+  }
+}
@@ -18,6 +18,8 @@
 
 import static io.github.problem4j.core.ProblemSupport.toExceptionMessage;
 
+import java.util.Objects;
+import java.util.function.Supplier;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -27,14 +29,31 @@
  * 7807. The exception message is automatically generated from the problem's title, detail, and
  * status unless explicitly provided.
  *
+ * <p>The generated message is computed on first call of {@link #getMessage()}. Exceptions of this
+ * class are serialized with it, but instances of subclasses that pass no message to the
+ * constructor are serialized without it and generate it again after deserialization. Earlier
+ * versions of this library deserialize such instances with a {@code null} message, so subclasses
+ * whose serialized form is read by them should pass the message explicitly.
+ *
  * @since 1.3.0
  */
 public class ProblemException extends RuntimeException {
 
   private static final long serialVersionUID = 2L;
 
-  /** The underlying {@link Problem} instance associated with this exception. */
-  private final Problem problem;
+  /**
+   * The underlying {@link Problem} instance associated with this exception, {@code null} until it
+   * is supplied for exceptions created by {@link #deferred(Supplier)}.
+   */
+  private volatile @Nullable Problem problem;
+
+  // Supplier of the problem of a deferred exception, cleared once the problem is supplied. Not
+  // serialized, as writeReplace() supplies the problem first.
+  private transient @Nullable Supplier<? extends Problem> problemSupplier;
+
+  // Message derived from the problem on first read of getMessage(), if no message was given to the
+  // constructor. Not serialized, as writeReplace() passes it to the constructor of a copy.
+  private transient @Nullable String derivedMessage;
 
   /**
    * Constructs a {@link ProblemException} with the given {@link Problem}.
@@ -46,8 +65,8 @@ public class ProblemException extends RuntimeException {
    * @since 1.3.0
    */
   public ProblemException(Problem problem) {
-    super(toExceptionMessage(problem));
-    this.problem = problem;
+    super((String) null);
+    this.problem = Objects.requireNonNull(problem, "problem");
   }
 
   /**
@@ -58,8 +77,8 @@ public ProblemException(Problem problem) {
    * @since 1.3.0
    */
   public ProblemException(@Nullable String message, Problem problem) {
-    super(isNonEmpty(message) ? message : toExceptionMessage(problem));
-    this.problem = problem;
+    super(isNonEmpty(message) ? message : null);
+    this.problem = Objects.requireNonNull(problem, "problem");
   }
 
   /**
@@ -74,8 +93,8 @@ public ProblemException(@Nullable String message, Problem problem) {
    * @since 1.3.0
    */
   public ProblemException(Problem problem, @Nullable Throwable cause) {
-    super(toExceptionMessage(problem), cause);
-    this.problem = problem;
+    super(null, cause);
+    this.problem = Objects.requireNonNull(problem, "problem");
   }
 
   /**
@@ -89,8 +108,8 @@ public ProblemException(Problem problem, @Nullable Throwable cause) {
    * @since 1.3.0
    */
   public ProblemException(@Nullable String message, Problem problem, @Nullable Throwable cause) {
-    super(isNonEmpty(message) ? message : toExceptionMessage(problem), cause);
-    this.problem = problem;
+    super(isNonEmpty(message) ? message : null, cause);
+    this.problem = Objects.requireNonNull(problem, "problem");
   }
 
   /**
@@ -114,12 +133,128 @@ protected ProblemException(
       @Nullable Throwable cause,
       boolean enableSuppression,
       boolean writableStackTrace) {
-    super(
-        isNonEmpty(message) ? message : toExceptionMessage(problem),
-        cause,
-        enableSuppression,
-        writableStackTrace);
-    this.problem = problem;
+    super(isNonEmpty(message) ? message : null, cause, enableSuppression, writableStackTrace);
+    this.problem = Objects.requireNonNull(problem, "problem");
+  }
+
+  // Constructs a deferred exception, see deferred(Supplier, Throwable).
+  private ProblemException(Supplier<? extends Problem> problemSupplier, @Nullable Throwable cause) {
+    super(null, cause);
+    this.problemSupplier = problemSupplier;
+  }
+
+  /**
+   * Creates a {@link ProblemException} with the given {@link Problem} that neither captures a stack
+   * trace nor records suppressed exceptions.
+   *
+   * <p>Capturing the stack trace is usually the largest cost of creating an exception, while
+   * handlers often read only {@link #getProblem()}. The returned exception is immutable, so it can
+   * be created once for a static problem, kept and thrown repeatedly.
+   *
+   * @param problem the problem instance to associate with this exception
+   * @return a new exception without a stack trace
+   * @since 2.1.0
+   */
+  public static ProblemException stackless(Problem problem) {
+    return new ProblemException(null, problem, null, false, false);
+  }
+
+  /**
+   * Creates a {@link ProblemException} with the given {@link Problem} and a cause that neither
+   * captures a stack trace nor records suppressed exceptions.
+   *
+   * @param problem the problem instance to associate with this exception
+   * @param cause the root cause of this exception (a {@code null} value is permitted, and indicates
+   *     that the cause is nonexistent or unknown)
+   * @return a new exception without a stack trace
+   * @see #stackless(Problem)
+   * @since 2.1.0
+   */
+  public static ProblemException stackless(Problem problem, @Nullable Throwable cause) {
+    return new ProblemException(null, problem, cause, false, false);
+  }
+
+  /**
+   * Creates a {@link ProblemException} with the given {@link Problem} that captures a stack trace
+   * only if the given sampler decides so. Otherwise, the exception is created as by {@link
+   * #stackless(Problem)}.
+   *
+   * @param problem the problem instance to associate with this exception
+   * @param sampler the policy deciding whether to capture the stack trace
+   * @return a new exception, with or without a stack trace
+   * @since 2.1.0
+   */
+  public static ProblemException sampled(Problem problem, StackTraceSampler sampler) {
+    return sampler.shouldCapture(problem) ? new ProblemException(problem) : stackless(problem);
+  }
+
+  /**
+   * Creates a {@link ProblemException} with the given {@link Problem} and a cause that captures a
+   * stack trace only if the given sampler decides so. Otherwise, the exception is created as by
+   * {@link #stackless(Problem, Throwable)}.
+   *
+   * @param problem the problem instance to associate with this exception
+   * @param cause the root cause of this exception (a {@code null} value is permitted, and indicates
+   *     that the cause is nonexistent or unknown)
+   * @param sampler the policy deciding whether to capture the stack trace
+   * @return a new exception, with or without a stack trace
+   * @since 2.1.0
+   */
+  public static ProblemException sampled(
+      Problem problem, @Nullable Throwable cause, StackTraceSampler sampler) {
+    return sampler.shouldCapture(problem)
+        ? new ProblemException(problem, cause)
+        : stackless(problem, cause);
+  }
+
+  /**
+   * Creates a {@link ProblemException} whose {@link Problem} is obtained from the given supplier on
+   * first call of {@link #getProblem()} or {@link #getMessage()}, instead of when it is thrown.
+   *
+   * <p>Useful where exceptions are often caught and discarded without reading their problem, as in
+   * retry loops. A prepared builder can be passed as {@code builder::build}. The supplier is called
+   * at most once, even if the problem is read concurrently, unless it throws, in which case the
+   * next read calls it again. The exception is serialized with the supplied problem.
+   *
+   * @param problemSupplier the supplier of the problem to associate with this exception, which
+   *     must not return {@code null}
+   * @return a new exception with a deferred problem
+   * @since 2.1.0
+   */
+  public static ProblemException deferred(Supplier<? extends Problem> problemSupplier) {
+    return new ProblemException(problemSupplier, null);
+  }
+
+  /**
+   * Creates a {@link ProblemException} with a cause, whose {@link Problem} is obtained from the
+   * given supplier on first call of {@link #getProblem()} or {@link #getMessage()}.
+   *
+   * @param problemSupplier the supplier of the problem to associate with this exception, which
+   *     must not return {@code null}
+   * @param cause the root cause of this exception (a {@code null} value is permitted, and indicates
+   *     that the cause is nonexistent or unknown)
+   * @return a new exception with a deferred problem
+   * @see #deferred(Supplier)
+   * @since 2.1.0
+   */
+  public static ProblemException deferred(
+      Supplier<? extends Problem> problemSupplier, @Nullable Throwable cause) {
+    return new ProblemException(problemSupplier, cause);
+  }
+
+  /**
+   * Returns a shared {@link ProblemException} without a stack trace, associated with the problem
+   * returned by {@link Problem#of(int)} for the given status.
+   *
+   * <p>Instances are created on first use and shared afterwards, so throwing them costs close to
+   * nothing. Like exceptions created by {@link #stackless(Problem)}, they are immutable.
+   *
+   * @param status the HTTP status code of the problem
+   * @return a shared exception without a stack trace
+   * @since 2.1.0
+   */
+  public static ProblemException ofStatus(int status) {
+    return StatusProblems.exceptionOf(status);
   }
 
   /**
@@ -129,9 +264,63 @@ protected ProblemException(
    * @since 1.3.0
    */
   public Problem getProblem() {
+    Problem problem = this.problem;
+    return problem != null ? problem : supplyProblem();
+  }
+
+  private synchronized Problem supplyProblem() {
+    Problem problem = this.problem;
+    if (problem == null) {
+      Supplier<? extends Problem> problemSupplier = Objects.requireNonNull(this.problemSupplier);
+      problem =
+          Objects.requireNonNull(problemSupplier.get(), "problem supplier returned null problem");
+      this.problem = problem;
+      this.problemSupplier = null;
+    }
     return problem;
   }
 
+  /**
+   * Returns the message given to the constructor or, if none was given, the message generated from
+   * the problem's title, detail, and status code. The generated message is computed on first call.
+   *
+   * @return the exception message, or {@code null} if there is none
+   * @since 2.1.0
+   */
+  @Override
+  public @Nullable String getMessage() {
+    String message = super.getMessage();
+    if (message != null) {
+      return message;
+    }
+    message = derivedMessage;
+    if (message == null) {
+      message = toExceptionMessage(getProblem());
+      derivedMessage = message;
+    }
+    return message;
+  }
+
+  // Exceptions without a message given to the constructor are serialized as a copy created with
+  // the derived message, so that the serialized form keeps the message of Throwable, as read by
+  // earlier versions, and always has the problem of deferred exceptions. As the method is private,
+  // subclasses are serialized as they are.
+  private Object writeReplace() {
+    if (super.getMessage() != null) {
+      return this;
+    }
+    StackTraceElement[] stackTrace = getStackTrace();
+    if (stackTrace.length == 0) {
+      return new ProblemException(getMessage(), getProblem(), getCause(), false, false);
+    }
+    ProblemException copy = new ProblemException(getMessage(), getProblem(), getCause());
+    copy.setStackTrace(stackTrace);
+    for (Throwable suppressed : getSuppressed()) {
+      copy.addSuppressed(suppressed);
+    }
+    return copy;
+  }
+
   private static boolean isNonEmpty(@Nullable String message) {
     return message != null && !message.isEmpty();
   }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Table of canonical {@link Problem} instances, similar to {@link String#intern()}. Interning
+ * returns a single shared instance for all equal problems, so that applications keeping many
+ * identical problems (for example in caches or audit buffers) retain only one copy of them.
+ *
+ * <p>Canonical instances are referenced weakly and are removed from the table once they are no
+ * longer used elsewhere, so the table does not keep problems alive. Problems are compared by
+ * {@link Problem#equals(Object)}. The hash code of each canonical problem is computed once and
+ * kept in the table, so problems with different hash codes are never compared field by field.
+ *
+ * <p>Only immutable problems should be interned. A problem whose extension values are modified
+ * after interning is not found again, and modifications are visible to all users of the canonical
+ * instance.
+ *
+ * <p>The interner is safe for concurrent use. The numbers of hits and misses are counted to
+ * measure the effectiveness of interning.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * ProblemInterner interner = ProblemInterner.create();
+ *
+ * Problem problem = interner.intern(mapper.toProblemBuilder(ex).build());
+ * }</pre>
+ *
+ * @since 2.1.0
+ */
+public final class ProblemInterner {
+
+  private final ConcurrentMap<WeakKey, WeakKey> table = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Problem> queue = new ReferenceQueue<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  private ProblemInterner() {}
+
+  /**
+   * Creates a new, empty interner.
+   *
+   * @return a new {@link ProblemInterner} instance
+   * @since 2.1.0
+   */
+  public static ProblemInterner create() {
+    return new ProblemInterner();
+  }
+
+  /**
+   * Returns the canonical instance of the given problem. If an equal problem was interned before
+   * and is still in use, that problem is returned, otherwise the given problem becomes canonical
+   * and is returned.
+   *
+   * @param problem the problem to intern
+   * @return the canonical {@link Problem} equal to {@code problem}
+   * @since 2.1.0
+   */
+  public Problem intern(Problem problem) {
+    expungeStaleEntries();
+    WeakKey key = new WeakKey(problem, queue);
+    while (true) {
+      WeakKey existing = table.putIfAbsent(key, key);
+      if (existing == null) {
+        misses.increment();
+        return problem;
+      }
+      Problem canonical = existing.get();
+      if (canonical != null) {
+        // cleared before it could be enqueued, as it was never added to the table
+        key.clear();
+        hits.increment();
+        return canonical;
+      }
+      // canonical instance was collected but its entry was not expunged yet
+      table.remove(existing, existing);
+    }
+  }
+
+  /**
+   * Returns the number of canonical problems in the table. Problems that are no longer used may
+   * be counted until the next call of {@link #intern(Problem)}.
+   *
+   * @return the number of canonical problems
+   * @since 2.1.0
+   */
+  public int size() {
+    return table.size();
+  }
+
+  /**
+   * Returns the number of calls of {@link #intern(Problem)} that returned a previously interned
+   * problem.
+   *
+   * @return the number of hits
+   * @since 2.1.0
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of calls of {@link #intern(Problem)} that made the given problem
+   * canonical.
+   *
+   * @return the number of misses
+   * @since 2.1.0
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the ratio of hits to all calls of {@link #intern(Problem)}, or {@code 0.0} if it was
+   * not called yet.
+   *
+   * @return the hit rate, between {@code 0.0} and {@code 1.0}
+   * @since 2.1.0
+   */
+  public double getHitRate() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total > 0 ? (double) hitCount / total : 0.0;
+  }
+
+  /**
+   * Removes all canonical problems and resets the hit and miss counts.
+   *
+   * @since 2.1.0
+   */
+  public void clear() {
+    table.clear();
+    hits.reset();
+    misses.reset();
+    expungeStaleEntries();
+  }
+
+  private void expungeStaleEntries() {
+    Reference<? extends Problem> reference;
+    while ((reference = queue.poll()) != null) {
+      table.remove(reference, reference);
+    }
+  }
+
+  // Weak reference with the hash code of its referent, so that it can be found (and removed) after
+  // the referent is collected. Cleared references are equal only to themselves.
+  private static final class WeakKey extends WeakReference<Problem> {
+
+    private final int hash;
+
+    private WeakKey(Problem problem, ReferenceQueue<Problem> queue) {
+      super(problem, queue);
+      this.hash = problem.hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof WeakKey) || hash != ((WeakKey) obj).hash) {
+        return false;
+      }
+      Problem problem = get();
+      return problem != null && problem.equals(((WeakKey) obj).get());
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
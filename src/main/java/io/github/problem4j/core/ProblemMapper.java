@@ -16,6 +16,9 @@
 
 package io.github.problem4j.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 
 /**
@@ -77,15 +80,56 @@ default ProblemBuilder toProblemBuilder(@Nullable Throwable t) {
    */
   ProblemBuilder toProblemBuilder(@Nullable Throwable t, @Nullable ProblemContext context);
 
+  /**
+   * Converts each of the given throwables into a {@link Problem}, the same way as {@link
+   * #toProblemBuilder(Throwable, ProblemContext)} followed by {@link ProblemBuilder#build()}.
+   *
+   * <p>Implementations may amortize per-class work and internal buffers across the batch, but the
+   * returned problems are equal to those produced by mapping each throwable on its own.
+   *
+   * @param throwables throwables to convert, in order (elements may be {@code null})
+   * @param context optional {@link ProblemContext} shared by all throwables (may be {@code null})
+   * @return a new mutable list of {@link Problem}s, in the order of {@code throwables}
+   * @throws ProblemMappingException when something goes wrong while building any of the Problems
+   * @since 2.1.0
+   */
+  default List<Problem> toProblems(
+      Iterable<? extends @Nullable Throwable> throwables, @Nullable ProblemContext context) {
+    List<Problem> problems = new ArrayList<>();
+    for (Throwable t : throwables) {
+      problems.add(toProblemBuilder(t, context).build());
+    }
+    return problems;
+  }
+
+  /**
+   * Lazily converts each of the given throwables into a {@link Problem}, the same way as {@link
+   * #toProblemBuilder(Throwable, ProblemContext)} followed by {@link ProblemBuilder#build()}.
+   *
+   * <p>Throwables are converted when the returned stream is consumed, which keeps the memory
+   * footprint constant for unbounded inputs such as log or event streams.
+   *
+   * @param throwables throwables to convert (elements may be {@code null})
+   * @param context optional {@link ProblemContext} shared by all throwables (may be {@code null})
+   * @return a stream of {@link Problem}s, in the encounter order of {@code throwables}
+   * @since 2.1.0
+   */
+  default Stream<Problem> toProblems(
+      Stream<? extends @Nullable Throwable> throwables, @Nullable ProblemContext context) {
+    return throwables.map(t -> toProblemBuilder(t, context).build());
+  }
+
   /**
    * Checks whether the given exception class is annotated with {@link ProblemMapping}.
    *
+   * <p>The default implementation caches the result per exception class.
+   *
    * @param t {@link Throwable} to check (may be {@code null})
    * @return {@code true} if the exception is annotated with {@link ProblemMapping}, {@code false}
    *     otherwise
    * @since 1.3.0
    */
   default boolean isMappingCandidate(@Nullable Throwable t) {
-    return t != null && t.getClass().isAnnotationPresent(ProblemMapping.class);
+    return t != null && ProblemMappingSupport.isAnnotated(t.getClass());
   }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Service provider interface for mapping a single exception class into a {@link ProblemBuilder}
+ * without reflection.
+ *
+ * <p>Implementations are typically generated at compile time by {@code problem4j-core-processor}
+ * for classes annotated with {@link ProblemMapping}, and are discovered by {@link
+ * DefaultProblemMapper} via {@link java.util.ServiceLoader}. A provider must produce the same
+ * result as the reflective evaluation of the {@link ProblemMapping} annotation of {@link
+ * #getExceptionType()}.
+ *
+ * <p>Providers are used only for throwables whose class is exactly {@link #getExceptionType()}.
+ * Subclasses inheriting the annotation are mapped reflectively, as they may declare additional
+ * fields referenced by placeholders.
+ *
+ * @since 2.1.0
+ */
+public interface ProblemMappingProvider {
+
+  /**
+   * Returns the exception class handled by this provider.
+   *
+   * @return the exception class handled by this provider
+   * @since 2.1.0
+   */
+  Class<? extends Throwable> getExceptionType();
+
+  /**
+   * Convert {@link Throwable} -&gt; {@link ProblemBuilder}. The given throwable is always an
+   * instance of {@link #getExceptionType()}.
+   *
+   * @param t {@link Throwable} to convert
+   * @param context optional {@link ProblemContext} (may be {@code null})
+   * @return a {@link ProblemBuilder} instance
+   * @since 2.1.0
+   */
+  ProblemBuilder toProblemBuilder(Throwable t, @Nullable ProblemContext context);
+}
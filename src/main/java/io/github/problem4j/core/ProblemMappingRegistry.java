@@ -0,0 +1,354 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Registry of {@link ProblemMapping} definitions for exception classes that cannot be annotated,
+ * such as JDK or third-party exceptions. Used by {@link DefaultProblemMapper} created with {@link
+ * DefaultProblemMapper#DefaultProblemMapper(ProblemMappingRegistry)}.
+ *
+ * <p>An exception class can be bound either to a definition equivalent to {@link ProblemMapping}
+ * annotation attributes, created with {@link #definition()}, or to a {@link MappingFunction}.
+ * Definitions are evaluated exactly like the annotation, including placeholders and {@code
+ * extensions()}.
+ *
+ * <p>Lookups are resolved across the class hierarchy - an exception class without its own entry
+ * uses the entry of its nearest registered superclass. The resolved entry is cached per concrete
+ * class, so lookups cost a single hash table access after warm-up. Exception classes with {@link
+ * ProblemMapping} annotation (own or inherited) are always mapped according to the annotation.
+ *
+ * <p>The registry is safe for concurrent use. Each modification publishes a new immutable snapshot
+ * of all entries, so concurrent lookups never observe a partially applied change, and entries can
+ * be registered or removed at runtime.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * ProblemMappingRegistry registry =
+ *     ProblemMappingRegistry.create()
+ *         .register(
+ *             TimeoutException.class,
+ *             ProblemMappingRegistry.definition().title("Timeout").status(504).detail("{message}"))
+ *         .register(
+ *             IllegalArgumentException.class,
+ *             (e, context) -> Problem.builder().status(400).detail(e.getMessage()));
+ *
+ * ProblemMapper mapper = new DefaultProblemMapper(registry);
+ * }</pre>
+ *
+ * @since 2.1.0
+ */
+public final class ProblemMappingRegistry {
+
+  private volatile Snapshot snapshot = new Snapshot(new HashMap<>());
+
+  private ProblemMappingRegistry() {}
+
+  /**
+   * Creates a new, empty registry.
+   *
+   * @return a new {@link ProblemMappingRegistry} instance
+   * @since 2.1.0
+   */
+  public static ProblemMappingRegistry create() {
+    return new ProblemMappingRegistry();
+  }
+
+  /**
+   * Creates a builder of a mapping definition equivalent to {@link ProblemMapping} annotation
+   * attributes.
+   *
+   * @return a new {@link DefinitionBuilder} instance
+   * @since 2.1.0
+   */
+  public static DefinitionBuilder definition() {
+    return new DefinitionBuilder();
+  }
+
+  /**
+   * Binds the exception class (and its subclasses without own entry) to the given definition,
+   * replacing the previous entry of that class, if any.
+   *
+   * @param type the exception class
+   * @param definition the mapping definition, evaluated like {@link ProblemMapping} annotation
+   * @return this registry instance for chaining
+   * @since 2.1.0
+   */
+  public ProblemMappingRegistry register(
+      Class<? extends Throwable> type, ProblemMapping definition) {
+    return put(type, new Entry(definition, null));
+  }
+
+  /**
+   * Binds the exception class (and its subclasses without own entry) to the definition built by
+   * the given builder, replacing the previous entry of that class, if any.
+   *
+   * @param type the exception class
+   * @param definition the builder of mapping definition
+   * @return this registry instance for chaining
+   * @since 2.1.0
+   */
+  public ProblemMappingRegistry register(
+      Class<? extends Throwable> type, DefinitionBuilder definition) {
+    return register(type, definition.build());
+  }
+
+  /**
+   * Binds the exception class (and its subclasses without own entry) to the given function,
+   * replacing the previous entry of that class, if any.
+   *
+   * @param type the exception class
+   * @param function the function converting exceptions of that class into {@link ProblemBuilder}
+   * @param <T> the exception type
+   * @return this registry instance for chaining
+   * @since 2.1.0
+   */
+  public <T extends Throwable> ProblemMappingRegistry register(
+      Class<T> type, MappingFunction<? super T> function) {
+    return put(type, new Entry(null, function));
+  }
+
+  /**
+   * Removes the entry of the exception class, if any. Subclasses without own entry fall back to
+   * the entry of the nearest registered superclass.
+   *
+   * @param type the exception class
+   * @return this registry instance for chaining
+   * @since 2.1.0
+   */
+  public synchronized ProblemMappingRegistry unregister(Class<? extends Throwable> type) {
+    if (snapshot.entries.containsKey(type)) {
+      Map<Class<?>, Entry> entries = new HashMap<>(snapshot.entries);
+      entries.remove(type);
+      snapshot = new Snapshot(entries);
+    }
+    return this;
+  }
+
+  /**
+   * Checks whether the exception class, or any of its superclasses, has an entry in this registry.
+   *
+   * @param type the exception class
+   * @return {@code true} if the class is resolved to an entry, {@code false} otherwise
+   * @since 2.1.0
+   */
+  public boolean isRegistered(Class<?> type) {
+    return find(type) != null;
+  }
+
+  @Nullable Entry find(Class<?> type) {
+    return snapshot.resolved.get(type).orElse(null);
+  }
+
+  // Whether the exception class itself, not only one of its superclasses, has an entry.
+  boolean isRegisteredExactly(Class<?> type) {
+    return snapshot.entries.containsKey(type);
+  }
+
+  private synchronized ProblemMappingRegistry put(Class<? extends Throwable> type, Entry entry) {
+    Map<Class<?>, Entry> entries = new HashMap<>(snapshot.entries);
+    entries.put(type, entry);
+    snapshot = new Snapshot(entries);
+    return this;
+  }
+
+  /**
+   * Function converting an exception into a {@link ProblemBuilder}, used as a programmatic
+   * alternative to {@link ProblemMapping} definition.
+   *
+   * @param <T> the exception type
+   * @since 2.1.0
+   */
+  @FunctionalInterface
+  public interface MappingFunction<T extends Throwable> {
+
+    /**
+     * Convert {@link Throwable} -&gt; {@link ProblemBuilder}.
+     *
+     * @param t {@link Throwable} to convert
+     * @param context optional {@link ProblemContext} (may be {@code null})
+     * @return a {@link ProblemBuilder} instance
+     * @since 2.1.0
+     */
+    ProblemBuilder toProblemBuilder(T t, @Nullable ProblemContext context);
+  }
+
+  /**
+   * Builder of a mapping definition equivalent to {@link ProblemMapping} annotation attributes.
+   * Attributes that are not set have the same defaults as the annotation.
+   *
+   * @since 2.1.0
+   */
+  public static final class DefinitionBuilder {
+
+    private String type = "";
+    private String title = "";
+    private int status = 0;
+    private String detail = "";
+    private String instance = "";
+    private String[] extensions = new String[0];
+
+    private DefinitionBuilder() {}
+
+    /**
+     * Sets the type template, see {@link ProblemMapping#type()}.
+     *
+     * @param type the type template
+     * @return this builder instance for chaining
+     * @since 2.1.0
+     */
+    public DefinitionBuilder type(String type) {
+      this.type = type;
+      return this;
+    }
+
+    /**
+     * Sets the title template, see {@link ProblemMapping#title()}.
+     *
+     * @param title the title template
+     * @return this builder instance for chaining
+     * @since 2.1.0
+     */
+    public DefinitionBuilder title(String title) {
+      this.title = title;
+      return this;
+    }
+
+    /**
+     * Sets the status, see {@link ProblemMapping#status()}.
+     *
+     * @param status the status
+     * @return this builder instance for chaining
+     * @since 2.1.0
+     */
+    public DefinitionBuilder status(int status) {
+      this.status = status;
+      return this;
+    }
+
+    /**
+     * Sets the detail template, see {@link ProblemMapping#detail()}.
+     *
+     * @param detail the detail template
+     * @return this builder instance for chaining
+     * @since 2.1.0
+     */
+    public DefinitionBuilder detail(String detail) {
+      this.detail = detail;
+      return this;
+    }
+
+    /**
+     * Sets the instance template, see {@link ProblemMapping#instance()}.
+     *
+     * @param instance the instance template
+     * @return this builder instance for chaining
+     * @since 2.1.0
+     */
+    public DefinitionBuilder instance(String instance) {
+      this.instance = instance;
+      return this;
+    }
+
+    /**
+     * Sets the names of fields to include as extensions, see {@link ProblemMapping#extensions()}.
+     *
+     * @param extensions the field names
+     * @return this builder instance for chaining
+     * @since 2.1.0
+     */
+    public DefinitionBuilder extensions(String... extensions) {
+      this.extensions = extensions.clone();
+      return this;
+    }
+
+    /**
+     * Builds the definition.
+     *
+     * @return an immutable {@link ProblemMapping} instance, equal to annotations with the same
+     *     attributes
+     * @since 2.1.0
+     */
+    public ProblemMapping build() {
+      return new DefaultProblemMapping(type, title, status, detail, instance, extensions);
+    }
+  }
+
+  // Registered definition or function, with the compiled plan of the definition.
+  static final class Entry {
+
+    private final @Nullable ProblemMapping definition;
+    private final @Nullable MappingFunction<?> function;
+    private final @Nullable MappingPlan plan;
+
+    private Entry(@Nullable ProblemMapping definition, @Nullable MappingFunction<?> function) {
+      this.definition = definition;
+      this.function = function;
+      this.plan = definition != null ? MappingPlan.compile(definition) : null;
+    }
+
+    @Nullable ProblemMapping getDefinition() {
+      return definition;
+    }
+
+    // Safe, as functions are registered only for their exception class and its subclasses.
+    @SuppressWarnings("unchecked")
+    @Nullable MappingFunction<Throwable> getFunction() {
+      return (MappingFunction<Throwable>) function;
+    }
+
+    @Nullable MappingPlan getPlan() {
+      return plan;
+    }
+
+    @Nullable DefaultProblemBuilder getPrototype() {
+      return plan != null ? plan.getPrototype() : null;
+    }
+  }
+
+  // Immutable entries with the nearest-superclass resolution cached per class. Replaced as a whole
+  // on modification, which also drops the cached resolutions.
+  private static final class Snapshot {
+
+    private final Map<Class<?>, Entry> entries;
+    private final ClassValue<Optional<Entry>> resolved;
+
+    private Snapshot(Map<Class<?>, Entry> entries) {
+      this.entries = unmodifiableMap(entries);
+      this.resolved =
+          new ClassValue<Optional<Entry>>() {
+            @Override
+            protected Optional<Entry> computeValue(Class<?> type) {
+              for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                Entry entry = Snapshot.this.entries.get(c);
+                if (entry != null) {
+                  return Optional.of(entry);
+                }
+              }
+              return Optional.empty();
+            }
+          };
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import org.jspecify.annotations.Nullable;
+
+final class ProblemMappingSupport {
+
+  // Resolved once per class, including misses (Optional.empty()). ClassValue entries do not keep
+  // the class reachable, so unloaded classes take their cached entries with them.
+  private static final ClassValue<Optional<ProblemMapping>> MAPPINGS =
+      new ClassValue<Optional<ProblemMapping>>() {
+        @Override
+        protected Optional<ProblemMapping> computeValue(Class<?> type) {
+          return Optional.ofNullable(type.getAnnotation(ProblemMapping.class));
+        }
+      };
+
+  // Provider per exception class, looked up on first use of each class, including misses. Looking
+  // up through the ClassValue keeps providers reachable only as long as their exception classes,
+  // so redeployed class loaders are not pinned.
+  private static final ClassValue<Optional<ProblemMappingProvider>> PROVIDERS =
+      new ClassValue<Optional<ProblemMappingProvider>>() {
+        @Override
+        protected Optional<ProblemMappingProvider> computeValue(Class<?> type) {
+          return Optional.ofNullable(loadProvider(type));
+        }
+      };
+
+  static @Nullable ProblemMapping findMapping(Class<?> type) {
+    return MAPPINGS.get(type).orElse(null);
+  }
+
+  static boolean isAnnotated(Class<?> type) {
+    return MAPPINGS.get(type).isPresent();
+  }
+
+  static @Nullable ProblemMappingProvider findProvider(Class<?> type) {
+    return PROVIDERS.get(type).orElse(null);
+  }
+
+  // Looks for the provider of the type in the class loader of the type, where generated providers
+  // are placed, and then in the class loader of this library. The context class loader is not
+  // used, as it depends on the thread that happens to map the type first.
+  private static @Nullable ProblemMappingProvider loadProvider(Class<?> type) {
+    ClassLoader typeLoader = type.getClassLoader();
+    ClassLoader libraryLoader = ProblemMappingProvider.class.getClassLoader();
+    ProblemMappingProvider provider = typeLoader != null ? loadProvider(type, typeLoader) : null;
+    if (provider == null && libraryLoader != typeLoader) {
+      provider = loadProvider(type, libraryLoader);
+    }
+    return provider;
+  }
+
+  // Providers that cannot be loaded or instantiated are skipped, so that a single broken entry in
+  // META-INF/services does not prevent mapping with the others. The iterator of ServiceLoader moves
+  // past the failed entry, so the next call continues with the following one.
+  static @Nullable ProblemMappingProvider loadProvider(
+      Class<?> type, @Nullable ClassLoader loader) {
+    Iterator<ProblemMappingProvider> providers =
+        ServiceLoader.load(ProblemMappingProvider.class, loader).iterator();
+    while (true) {
+      ProblemMappingProvider provider;
+      try {
+        if (!providers.hasNext()) {
+          return null;
+        }
+        provider = providers.next();
+      } catch (ServiceConfigurationError e) {
+        continue;
+      }
+      if (provider.getExceptionType() == type) {
+        return provider;
+      }
+    }
+  }
+
+  private ProblemMappingSupport() {}
+}
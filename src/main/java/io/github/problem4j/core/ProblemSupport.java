@@ -16,9 +16,10 @@
 
 package io.github.problem4j.core;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import org.jspecify.annotations.Nullable;
@@ -91,22 +92,108 @@ public static String toString(Problem problem) {
    * @since 2.0.0
    */
   public static String toString(String label, Problem problem) {
-    List<String> entries = new ArrayList<>();
+    StringBuilder builder = new StringBuilder(capacity(label, problem.getExtensions().size()));
+    try {
+      return appendTo(builder, label, problem).toString();
+    } catch (IOException e) {
+      // not thrown by StringBuilder
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Appends the string representation of {@code problem}, as returned by {@link
+   * #toString(Problem)}, to the given {@link Appendable} without creating intermediate strings for
+   * its fields.
+   *
+   * @param out the appendable to write to, such as a {@link StringBuilder} of a log encoder
+   * @param problem the problem to represent
+   * @param <A> type of the appendable
+   * @return the given appendable
+   * @throws IOException if the appendable throws it
+   * @since 2.1.0
+   */
+  public static <A extends Appendable> A appendTo(A out, Problem problem) throws IOException {
+    return appendTo(out, problem.getClass().getSimpleName(), problem);
+  }
+
+  /**
+   * Appends the string representation of {@code problem}, as returned by {@link #toString(String,
+   * Problem)}, to the given {@link Appendable} without creating intermediate strings for its
+   * fields.
+   *
+   * @param out the appendable to write to, such as a {@link StringBuilder} of a log encoder
+   * @param label the class name label to use as prefix
+   * @param problem the problem to represent
+   * @param <A> type of the appendable
+   * @return the given appendable
+   * @throws IOException if the appendable throws it
+   * @since 2.1.0
+   */
+  public static <A extends Appendable> A appendTo(A out, String label, Problem problem)
+      throws IOException {
+    out.append(label).append('[');
     if (problem.isTypeNonBlank()) {
-      entries.add("type=" + problem.getType());
+      out.append("type=").append(problem.getType().toString()).append(", ");
     }
-    entries.add("title=" + problem.getTitle());
-    entries.add("status=" + problem.getStatus());
-    if (problem.getDetail() != null) {
-      entries.add("detail=" + problem.getDetail());
+    out.append("title=").append(problem.getTitle());
+    out.append(", status=").append(Integer.toString(problem.getStatus()));
+    String detail = problem.getDetail();
+    if (detail != null) {
+      out.append(", detail=").append(detail);
     }
-    if (problem.getInstance() != null) {
-      entries.add("instance=" + problem.getInstance());
+    URI instance = problem.getInstance();
+    if (instance != null) {
+      out.append(", instance=").append(instance.toString());
     }
-    problem.getExtensions().entrySet().stream()
-        .sorted(Map.Entry.comparingByKey())
-        .forEach(entry -> entries.add(entry.getKey() + "=" + entry.getValue()));
-    return label + "[" + String.join(", ", entries) + "]";
+    appendSorted(out, problem.getExtensions(), false);
+    out.append(']');
+    return out;
+  }
+
+  // Appends entries of the map as key=value in key order, each preceded by ", " unless it is the
+  // first one and first is true. Extensions of problems built by ProblemBuilder are already in key
+  // order, otherwise an array of keys is allocated and sorted if there are two or more.
+  static void appendSorted(Appendable out, Map<String, ?> map, boolean first) throws IOException {
+    if (map.isEmpty()) {
+      return;
+    }
+    if (map.size() == 1 || map instanceof ExtensionMap) {
+      boolean firstEntry = first;
+      for (Map.Entry<String, ?> entry : map.entrySet()) {
+        appendEntry(out, entry.getKey(), entry.getValue(), firstEntry);
+        firstEntry = false;
+      }
+      return;
+    }
+    String[] keys = map.keySet().toArray(new String[0]);
+    Arrays.sort(keys);
+    for (int i = 0; i < keys.length; i++) {
+      appendEntry(out, keys[i], map.get(keys[i]), first && i == 0);
+    }
+  }
+
+  // Same as appendSorted(Appendable, Map, boolean), for callers writing to a StringBuilder.
+  static void appendSorted(StringBuilder out, Map<String, ?> map, boolean first) {
+    try {
+      appendSorted((Appendable) out, map, first);
+    } catch (IOException e) {
+      // not thrown by StringBuilder
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static void appendEntry(Appendable out, String key, @Nullable Object value, boolean first)
+      throws IOException {
+    if (!first) {
+      out.append(", ");
+    }
+    out.append(key).append('=').append(String.valueOf(value));
+  }
+
+  // Initial capacity of a StringBuilder for a representation with the given number of entries.
+  private static int capacity(String label, int entries) {
+    return label.length() + 64 + 24 * entries;
   }
 
   /**
@@ -203,14 +290,14 @@ public static String toString(ProblemContext context) {
    * @since 2.0.0
    */
   public static String toString(String label, ProblemContext context) {
-    if (context.toMap().isEmpty()) {
+    Map<String, String> entries = context.toMap();
+    if (entries.isEmpty()) {
       return label + "[EMPTY]";
     }
-    List<String> entries = new ArrayList<>();
-    context.toMap().entrySet().stream()
-        .sorted(Map.Entry.comparingByKey())
-        .forEach(entry -> entries.add(entry.getKey() + "=" + entry.getValue()));
-    return label + "[" + String.join(", ", entries) + "]";
+    StringBuilder builder = new StringBuilder(capacity(label, entries.size()));
+    builder.append(label).append('[');
+    appendSorted(builder, entries, true);
+    return builder.append(']').toString();
   }
 
   /**
@@ -256,13 +343,16 @@ public static boolean isTypeNonBlank(URI type) {
    * @since 2.0.0
    */
   public static @Nullable String toExceptionMessage(Problem problem) {
-    StringBuilder builder = new StringBuilder();
-    builder.append(problem.getTitle());
-    if (problem.getDetail() != null) {
+    String title = problem.getTitle();
+    String detail = problem.getDetail();
+    int capacity = title.length() + (detail != null ? detail.length() + 2 : 0) + 16;
+    StringBuilder builder = new StringBuilder(capacity);
+    builder.append(title);
+    if (detail != null) {
       if (builder.length() > 0) {
         builder.append(": ");
       }
-      builder.append(problem.getDetail());
+      builder.append(detail);
     }
     if (problem.getStatus() != 0) {
       if (builder.length() > 0) {
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Policy deciding which {@link ProblemException}s capture a stack trace, so that stack traces are
+ * kept for some occurrences of a problem while the rest are created without one. Used by {@link
+ * ProblemException#sampled(Problem, StackTraceSampler)}.
+ *
+ * <p>Decisions are made per problem type, or per status for problems without a type, so that a
+ * storm of one problem does not prevent capturing stack traces of others. Each type or status has
+ * its own counter updated by compare-and-set, without locks. The numbers of sampled and skipped
+ * decisions are counted.
+ *
+ * <p>The sampler is safe for concurrent use. Counters of problem types are kept for the lifetime of
+ * the sampler, so types should come from a bounded set, as they usually do.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * static final StackTraceSampler SAMPLER =
+ *     StackTraceSampler.firstPerWindow(5, Duration.ofMinutes(1));
+ *
+ * throw ProblemException.sampled(problem, SAMPLER);
+ * }</pre>
+ *
+ * @since 2.1.0
+ */
+public final class StackTraceSampler {
+
+  private static final int MAX_CACHED_STATUS = 999;
+
+  // bits of the state of a window counter holding the number of captures in the window, the rest
+  // holding the low bits of the index of the window
+  private static final int COUNT_BITS = 24;
+  private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+  // capture every n-th occurrence, 0 if the window policy is used
+  private final int every;
+
+  // capture the first limit occurrences per window of windowNanos
+  private final int limit;
+  private final long windowNanos;
+
+  private final LongSupplier clock;
+  private final long origin;
+
+  private final AtomicReferenceArray<AtomicLong> statusCounters =
+      new AtomicReferenceArray<>(MAX_CACHED_STATUS + 1);
+  private final ConcurrentMap<Object, AtomicLong> counters = new ConcurrentHashMap<>();
+
+  private final LongAdder sampled = new LongAdder();
+  private final LongAdder skipped = new LongAdder();
+
+  StackTraceSampler(int every, int limit, long windowNanos, LongSupplier clock) {
+    this.every = every;
+    this.limit = limit;
+    this.windowNanos = windowNanos;
+    this.clock = clock;
+    this.origin = clock.getAsLong();
+  }
+
+  /**
+   * Creates a sampler capturing the stack trace of the first and then of every {@code n}-th
+   * occurrence of each problem type or status.
+   *
+   * @param n the sampling interval, {@code 1} to capture every stack trace
+   * @return a new {@link StackTraceSampler} instance
+   * @throws IllegalArgumentException if {@code n} is not positive
+   * @since 2.1.0
+   */
+  public static StackTraceSampler everyNth(int n) {
+    if (n <= 0) {
+      throw new IllegalArgumentException("n must be positive, but was " + n);
+    }
+    return new StackTraceSampler(n, 0, 0, System::nanoTime);
+  }
+
+  /**
+   * Creates a sampler capturing the stack traces of the first {@code limit} occurrences of each
+   * problem type or status within each consecutive time window of the given length.
+   *
+   * @param limit the number of stack traces to capture per window, {@code 0} to capture none
+   * @param window the length of a window
+   * @return a new {@link StackTraceSampler} instance
+   * @throws IllegalArgumentException if {@code limit} is negative or too large, or if {@code
+   *     window} is not positive
+   * @since 2.1.0
+   */
+  public static StackTraceSampler firstPerWindow(int limit, Duration window) {
+    return firstPerWindow(limit, window, System::nanoTime);
+  }
+
+  static StackTraceSampler firstPerWindow(int limit, Duration window, LongSupplier clock) {
+    if (limit < 0 || limit > COUNT_MASK) {
+      throw new IllegalArgumentException(
+          "limit must be between 0 and " + COUNT_MASK + ", but was " + limit);
+    }
+    if (window.isNegative() || window.isZero()) {
+      throw new IllegalArgumentException("window must be positive, but was " + window);
+    }
+    return new StackTraceSampler(0, limit, window.toNanos(), clock);
+  }
+
+  /**
+   * Decides whether the stack trace of an exception for the given problem is to be captured, and
+   * counts the decision.
+   *
+   * @param problem the problem of the exception
+   * @return {@code true} if the stack trace is to be captured, {@code false} otherwise
+   * @since 2.1.0
+   */
+  public boolean shouldCapture(Problem problem) {
+    AtomicLong counter = counterOf(problem);
+    boolean capture = every > 0 ? counter.getAndIncrement() % every == 0 : tryAcquire(counter);
+    if (capture) {
+      sampled.increment();
+    } else {
+      skipped.increment();
+    }
+    return capture;
+  }
+
+  // Counts a capture in the current window unless the limit of the window is reached. The state
+  // of the counter holds the low bits of the window index and the number of captures in it, updated
+  // together. Windows are compared by their difference in those bits, sign-extended, so that the
+  // index may wrap around them, as it does after 2^40 windows, which is 18 minutes of 1 ns windows.
+  private boolean tryAcquire(AtomicLong counter) {
+    long window = (clock.getAsLong() - origin) / windowNanos;
+    while (true) {
+      long state = counter.get();
+      long elapsed = ((window - (state >>> COUNT_BITS)) << COUNT_BITS) >> COUNT_BITS;
+      if (elapsed > 0) {
+        if (limit == 0) {
+          return false;
+        }
+        if (counter.compareAndSet(state, (window << COUNT_BITS) | 1)) {
+          return true;
+        }
+      } else if ((state & COUNT_MASK) >= limit) {
+        return false;
+      } else if (counter.compareAndSet(state, state + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private AtomicLong counterOf(Problem problem) {
+    URI type = problem.getType();
+    if (ProblemSupport.isTypeNonBlank(type)) {
+      return counterOf((Object) type);
+    }
+    int status = problem.getStatus();
+    if (status < 0 || status > MAX_CACHED_STATUS) {
+      return counterOf((Object) status);
+    }
+    AtomicLong counter = statusCounters.get(status);
+    if (counter == null) {
+      counter = new AtomicLong();
+      if (!statusCounters.compareAndSet(status, null, counter)) {
+        counter = statusCounters.get(status);
+      }
+    }
+    return counter;
+  }
+
+  private AtomicLong counterOf(Object key) {
+    AtomicLong counter = counters.get(key);
+    return counter != null ? counter : counters.computeIfAbsent(key, k -> new AtomicLong());
+  }
+
+  /**
+   * Returns the number of decisions to capture a stack trace.
+   *
+   * @return the number of sampled stack traces
+   * @since 2.1.0
+   */
+  public long getSampledCount() {
+    return sampled.sum();
+  }
+
+  /**
+   * Returns the number of decisions not to capture a stack trace.
+   *
+   * @return the number of skipped stack traces
+   * @since 2.1.0
+   */
+  public long getSkippedCount() {
+    return skipped.sum();
+  }
+}
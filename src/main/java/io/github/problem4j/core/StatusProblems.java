@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Shared immutable problems with only a status and the title resolved for it by the active
+// StatusTitleResolver, returned by Problem.of(int) and by builders with no other field set. Each
+// problem is built on first use and cached for statuses in the range of three-digit HTTP codes.
+// Stackless exceptions for these problems, returned by ProblemException.ofStatus(int), are cached
+// the same way.
+final class StatusProblems {
+
+  private static final int MAX_CACHED_STATUS = 999;
+
+  private static final AtomicReferenceArray<Problem> PROBLEMS =
+      new AtomicReferenceArray<>(MAX_CACHED_STATUS + 1);
+
+  private static final AtomicReferenceArray<ProblemException> EXCEPTIONS =
+      new AtomicReferenceArray<>(MAX_CACHED_STATUS + 1);
+
+  static Problem of(int status) {
+    if (status < 0 || status > MAX_CACHED_STATUS) {
+      return create(status);
+    }
+    Problem problem = PROBLEMS.get(status);
+    if (problem == null) {
+      problem = create(status);
+      if (!PROBLEMS.compareAndSet(status, null, problem)) {
+        problem = PROBLEMS.get(status);
+      }
+    }
+    return problem;
+  }
+
+  static ProblemException exceptionOf(int status) {
+    if (status < 0 || status > MAX_CACHED_STATUS) {
+      return ProblemException.stackless(of(status));
+    }
+    ProblemException exception = EXCEPTIONS.get(status);
+    if (exception == null) {
+      exception = ProblemException.stackless(of(status));
+      if (!EXCEPTIONS.compareAndSet(status, null, exception)) {
+        exception = EXCEPTIONS.get(status);
+      }
+    }
+    return exception;
+  }
+
+  private static Problem create(int status) {
+    String title =
+        StatusTitleSupport.getResolver().resolve(status).orElse(Problem.UNKNOWN_TITLE);
+    return new DefaultProblem(Problem.BLANK_TYPE, title, status, null, null, null);
+  }
+
+  private StatusProblems() {}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.jspecify.annotations.Nullable;
+
+final class UriSupport {
+
+  // Interpolated values may be unique per mapping (e.g. ids in instance URIs), so the cache is
+  // cleared once it reaches its bound instead of growing. Repeated values are parsed once, while
+  // unique ones cost no more than URI.create.
+  private static final int MAX_CACHED_URIS = 1024;
+
+  // Cached in place of invalid values, as ConcurrentHashMap does not allow null values.
+  private static final URI INVALID = URI.create("urn:problem4j:invalid");
+
+  private static final ConcurrentMap<String, URI> URIS = new ConcurrentHashMap<>();
+
+  // Parses the value the same way as URI.create, returning null instead of throwing if invalid.
+  static @Nullable URI parse(String value) {
+    URI uri = URIS.get(value);
+    if (uri == null) {
+      uri = parseUncached(value);
+      if (URIS.size() >= MAX_CACHED_URIS) {
+        URIS.clear();
+      }
+      URIS.put(value, uri);
+    }
+    return uri != INVALID ? uri : null;
+  }
+
+  // Same as parse, but without caching. Returns INVALID marker for invalid values, so callers can
+  // memoize the result in a single field.
+  static URI parseUncached(String value) {
+    try {
+      return new URI(value);
+    } catch (URISyntaxException e) {
+      return INVALID;
+    }
+  }
+
+  static boolean isValid(URI uri) {
+    return uri != INVALID;
+  }
+
+  private UriSupport() {}
+}
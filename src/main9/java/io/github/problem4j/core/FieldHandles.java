@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+// Java 9+ variant, packaged under META-INF/versions/9. Uses a private lookup instead of
+// Field.setAccessible, so it also works for packages opened only to this module.
+final class FieldHandles {
+
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  static FieldAccessors.FieldAccessor create(Field field) throws ReflectiveOperationException {
+    Class<?> declaringClass = field.getDeclaringClass();
+    FieldHandles.class.getModule().addReads(declaringClass.getModule());
+    MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, LOOKUP);
+    if (Modifier.isStatic(field.getModifiers())) {
+      VarHandle handle =
+          lookup.findStaticVarHandle(declaringClass, field.getName(), field.getType());
+      return target -> (Object) handle.get();
+    }
+    VarHandle handle = lookup.findVarHandle(declaringClass, field.getName(), field.getType());
+    return target -> (Object) handle.get(target);
+  }
+
+  private FieldHandles() {}
+}
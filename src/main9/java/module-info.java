@@ -47,4 +47,7 @@
   requires static org.jspecify;
 
   exports io.github.problem4j.core;
+
+  uses io.github.problem4j.core.ProblemMappingProvider;
+  uses io.github.problem4j.core.StatusTitleResolver;
 }
@@ -35,6 +35,8 @@
  */
 class DefaultProblemBuilderTest {
 
+  private static final ExtensionKey<Long> RETRY_AFTER = ExtensionKey.of("retryAfter", Long.class);
+
   private DefaultProblemBuilder newInstance() {
     return new DefaultProblemBuilder();
   }
@@ -382,4 +384,404 @@ void givenBuilderWithState_whenSerialized_thenDeserializedCanBuild() throws Exce
     assertThat(result.getInstance()).isEqualTo(URI.create("https://example.com/instance"));
     assertThat(result.getExtensions().get("key")).isEqualTo("value");
   }
+
+  @Test
+  void givenPrebuiltBuilder_whenBuildCopies_thenReturnsSameInstance() {
+    DefaultProblemBuilder prototype = newInstance();
+    prototype.title("Prebuilt").status(400).detail("Static detail");
+    Problem prebuilt = prototype.prebuild();
+
+    assertThat(new DefaultProblemBuilder(prototype).build()).isSameAs(prebuilt);
+    assertThat(new DefaultProblemBuilder(prototype).build()).isSameAs(prebuilt);
+    assertThat(prototype.build()).isSameAs(prebuilt);
+  }
+
+  @Test
+  void givenCopyOfPrebuiltBuilder_whenModified_thenBuildsNewProblem() {
+    DefaultProblemBuilder prototype = newInstance();
+    prototype.title("Prebuilt").status(400);
+    Problem prebuilt = prototype.prebuild();
+
+    Problem modified =
+        new DefaultProblemBuilder(prototype).detail("Dynamic").extension("key", 1).build();
+
+    assertThat(modified).isNotSameAs(prebuilt);
+    assertThat(modified.getDetail()).isEqualTo("Dynamic");
+    assertThat(modified.getExtensions().get("key")).isEqualTo(1);
+    assertThat(new DefaultProblemBuilder(prototype).build()).isSameAs(prebuilt);
+  }
+
+  @Test
+  void givenCopyOfPrebuiltBuilderWithoutTitle_whenStatusChanged_thenResolvesTitleAgain() {
+    DefaultProblemBuilder prototype = new DefaultProblemBuilder(new DefaultStatusTitleResolver());
+    prototype.status(400);
+    prototype.prebuild();
+
+    Problem problem = new DefaultProblemBuilder(prototype).status(404).build();
+
+    assertThat(problem.getTitle()).isEqualTo("Not Found");
+  }
+
+  @Test
+  void givenPrebuiltBuilder_whenSerialized_thenDeserializedBuildsEqualProblem() throws Exception {
+    DefaultProblemBuilder prototype = newInstance();
+    prototype.title("Prebuilt").status(400);
+    Problem prebuilt = prototype.prebuild();
+
+    ProblemBuilder deserialized = Serialization.roundTrip(new DefaultProblemBuilder(prototype));
+
+    assertThat(deserialized.build()).isEqualTo(prebuilt);
+  }
+
+  @Test
+  void givenOnlyStatus_whenBuildTwice_thenReturnsSharedInstance() {
+    Problem first = newInstance().status(404).build();
+    Problem second = newInstance().type(Problem.BLANK_TYPE).status(404).build();
+
+    assertThat(first).isSameAs(second);
+    assertThat(first).isSameAs(Problem.of(404));
+    assertThat(first.getTitle()).isEqualTo("Not Found");
+  }
+
+  @Test
+  void givenStatusAndOtherField_whenBuildTwice_thenBuildsNewInstances() {
+    Problem first = newInstance().status(404).extension("key", "value").build();
+    Problem second = newInstance().status(404).extension("key", "value").build();
+
+    assertThat(first).isNotSameAs(second);
+    assertThat(first).isEqualTo(second);
+  }
+
+  @Test
+  void givenCustomResolverAndOnlyStatus_whenBuild_thenDoesNotReturnSharedInstance() {
+    StatusTitleResolver resolver = status -> Optional.of("Custom");
+
+    Problem problem = new DefaultProblemBuilder(resolver).status(404).build();
+
+    assertThat(problem).isNotSameAs(Problem.of(404));
+    assertThat(problem.getTitle()).isEqualTo("Custom");
+  }
+
+  @Test
+  void givenOneShotBuilder_whenBuild_thenEqualsRegularBuild() {
+    Problem oneShot =
+        newInstance().oneShot().title("T").status(400).extension("key", "value").build();
+    Problem regular = newInstance().title("T").status(400).extension("key", "value").build();
+
+    assertThat(oneShot).isEqualTo(regular);
+    assertThat(oneShot.getExtensions()).isEqualTo(regular.getExtensions());
+  }
+
+  @Test
+  void givenOneShotBuilder_whenModifiedAfterBuild_thenBuiltProblemIsNotAffected() {
+    ProblemBuilder builder = newInstance().oneShot().status(400).extension("key", "value");
+    Problem first = builder.build();
+
+    builder.extension("key", "changed").extension("other", 1);
+    Problem second = builder.build();
+    builder.extension("key", null);
+
+    assertThat(first.getExtensions()).isEqualTo(Map.of("key", "value"));
+    assertThat(second.getExtensions()).isEqualTo(Map.of("key", "changed", "other", 1));
+  }
+
+  @Test
+  void givenOneShotBuilderWithoutExtensions_whenBuild_thenExtensionsAreEmpty() {
+    Problem problem = newInstance().oneShot().title("T").status(400).build();
+
+    assertThat(problem.getExtensions()).isEmpty();
+  }
+
+  @Test
+  void givenBuilderWithState_whenReset_thenBuildsLikeNewBuilder() {
+    ProblemBuilder builder =
+        newInstance()
+            .type("https://example.org/probs/test")
+            .title("T")
+            .status(400)
+            .detail("D")
+            .instance("https://example.org/instances/1")
+            .extension("key", "value");
+
+    Problem problem = builder.reset().build();
+
+    assertThat(problem).isEqualTo(newInstance().build());
+  }
+
+  @Test
+  void givenOneShotBuilderAfterBuild_whenReset_thenBuiltProblemIsNotAffected() {
+    ProblemBuilder builder = newInstance().oneShot().status(400).extension("key", "value");
+    Problem problem = builder.build();
+
+    builder.reset().extension("other", 1);
+
+    assertThat(problem.getExtensions()).isEqualTo(Map.of("key", "value"));
+    assertThat(builder.build().getExtensions()).isEqualTo(Map.of("other", 1));
+  }
+
+  @Test
+  void givenTypedExtension_whenBuild_thenAvailableByKeyAndByName() {
+    Problem problem =
+        newInstance()
+            .status(503)
+            .extension(ExtensionKey.TRACE_ID, "trace-1")
+            .extension(RETRY_AFTER, 30L)
+            .extension("other", "value")
+            .build();
+
+    assertThat(problem.getExtension(ExtensionKey.TRACE_ID)).isEqualTo("trace-1");
+    assertThat(problem.getExtension(RETRY_AFTER)).isEqualTo(30L);
+    assertThat(problem.getExtension(ExtensionKey.ERROR_CODE)).isNull();
+    assertThat(problem.getExtensions())
+        .isEqualTo(Map.of("traceId", "trace-1", "retryAfter", 30L, "other", "value"));
+    assertThat(problem)
+        .isEqualTo(
+            newInstance()
+                .status(503)
+                .extension("traceId", "trace-1")
+                .extension("retryAfter", 30L)
+                .extension("other", "value")
+                .build());
+  }
+
+  @Test
+  void givenNamedExtensionAfterTypedExtension_whenBuild_thenLastValueWins() {
+    Problem overridden =
+        newInstance()
+            .extension(ExtensionKey.ERROR_CODE, "E1")
+            .extension("errorCode", "E2")
+            .build();
+    Problem mistyped =
+        newInstance()
+            .extension(RETRY_AFTER, 30L)
+            .extension("retryAfter", "soon")
+            .build();
+    Problem removed =
+        newInstance().extension(ExtensionKey.ERROR_CODE, "E1").extension("errorCode", null).build();
+
+    assertThat(overridden.getExtension(ExtensionKey.ERROR_CODE)).isEqualTo("E2");
+    assertThat(overridden.getExtensions()).isEqualTo(Map.of("errorCode", "E2"));
+    assertThat(mistyped.getExtension(RETRY_AFTER)).isNull();
+    assertThat(mistyped.getExtensions()).isEqualTo(Map.of("retryAfter", "soon"));
+    assertThat(removed.getExtensions()).isEmpty();
+  }
+
+  @Test
+  void givenTypedExtensionAfterNamedExtension_whenBuild_thenLastValueWins() {
+    Problem problem =
+        newInstance()
+            .extension("traceId", "named")
+            .extension(ExtensionKey.TRACE_ID, "typed")
+            .build();
+
+    assertThat(problem.getExtension(ExtensionKey.TRACE_ID)).isEqualTo("typed");
+    assertThat(problem.getExtensions()).isEqualTo(Map.of("traceId", "typed"));
+  }
+
+  @Test
+  void givenUnindexedKey_whenBuild_thenStoredAndAvailableByName() {
+    ExtensionKey<String> key =
+        ExtensionKey.unindexed("defaultProblemBuilderTest.unindexed", String.class);
+
+    Problem problem = newInstance().extension(key, "value").extension("other", 1).build();
+    Problem removed = newInstance().extension(key, "value").extension(key, null).build();
+
+    assertThat(problem.getExtension(key)).isEqualTo("value");
+    assertThat(problem.getExtensions())
+        .isEqualTo(Map.of("defaultProblemBuilderTest.unindexed", "value", "other", 1));
+    assertThat(removed.getExtensions()).isEmpty();
+  }
+
+  @Test
+  void givenNamedExtensionOfRegisteredKey_whenBuild_thenAvailableByKey() {
+    Problem problem = newInstance().extension("traceId", "named").build();
+
+    assertThat(problem.getExtension(ExtensionKey.TRACE_ID)).isEqualTo("named");
+  }
+
+  @Test
+  void givenOnlyStatusAndTypedExtension_whenBuild_thenDoesNotReturnSharedInstance() {
+    Problem problem = newInstance().status(404).extension(ExtensionKey.TRACE_ID, "t").build();
+
+    assertThat(problem).isNotSameAs(Problem.of(404));
+    assertThat(problem.getExtensions()).hasSize(1);
+  }
+
+  @Test
+  void givenTypedExtension_whenBuilderSerialized_thenDeserializedBuilderKeepsExtension()
+      throws Exception {
+    ProblemBuilder builder = newInstance().status(400).extension(ExtensionKey.ERROR_CODE, "E1");
+
+    ProblemBuilder deserialized = Serialization.roundTrip(builder);
+
+    assertThat(deserialized.build()).isEqualTo(builder.build());
+    assertThat(deserialized.build().getExtension(ExtensionKey.ERROR_CODE)).isEqualTo("E1");
+    assertThat(builder.toString()).isEqualTo("ProblemBuilder[status=400, errorCode=E1]");
+  }
+
+  @Test
+  void givenTypedExtension_whenProblemSerialized_thenDeserializedProblemKeepsExtension()
+      throws Exception {
+    Problem problem = newInstance().status(400).extension(ExtensionKey.ERROR_CODE, "E1").build();
+
+    Problem deserialized = Serialization.roundTrip(problem);
+
+    assertThat(deserialized).isEqualTo(problem);
+    assertThat(deserialized.getExtension(ExtensionKey.ERROR_CODE)).isEqualTo("E1");
+  }
+
+  @Test
+  void givenPrimitiveExtensions_whenBuild_thenMapViewContainsBoxedValues() {
+    Problem problem =
+        newInstance()
+            .status(429)
+            .extension("retryAfter", 30L)
+            .extension("remaining", 0)
+            .extension("ratio", 0.25)
+            .extension("retryable", true)
+            .build();
+
+    assertThat(problem.getExtensions())
+        .isEqualTo(Map.of("retryAfter", 30L, "remaining", 0, "ratio", 0.25, "retryable", true));
+    assertThat(problem.getExtensions().get("retryAfter")).isInstanceOf(Long.class);
+    assertThat(problem.getExtensions().get("remaining")).isInstanceOf(Integer.class);
+    assertThat(problem)
+        .isEqualTo(
+            newInstance()
+                .status(429)
+                .extension("retryAfter", (Object) 30L)
+                .extension("remaining", (Object) 0)
+                .extension("ratio", (Object) 0.25)
+                .extension("retryable", (Object) true)
+                .build());
+  }
+
+  @Test
+  void givenNarrowPrimitiveExtensions_whenBuild_thenMapViewKeepsTheirWrapperTypes() {
+    Problem problem =
+        newInstance()
+            .extension("flags", (byte) 3)
+            .extension("port", (short) 8080)
+            .extension("grade", 'A')
+            .extension("ratio", 0.5f)
+            .build();
+
+    assertThat(problem.getExtensions().get("flags")).isEqualTo((byte) 3);
+    assertThat(problem.getExtensions().get("port")).isEqualTo((short) 8080);
+    assertThat(problem.getExtensions().get("grade")).isEqualTo('A');
+    assertThat(problem.getExtensions().get("ratio")).isEqualTo(0.5f);
+    assertThat(problem.getIntExtension("port", -1)).isEqualTo(8080);
+    assertThat(problem.getDoubleExtension("ratio", -1)).isEqualTo(0.5);
+    assertThat(problem.getIntExtension("grade", -1)).isEqualTo(-1);
+    assertThat(problem.getBooleanExtension("grade", false)).isFalse();
+    assertThat(problem)
+        .isEqualTo(
+            newInstance()
+                .extension("flags", (Object) (byte) 3)
+                .extension("port", (Object) (short) 8080)
+                .extension("grade", (Object) 'A')
+                .extension("ratio", (Object) 0.5f)
+                .build());
+  }
+
+  @Test
+  void givenPrimitiveExtensions_whenReadByPrimitiveAccessors_thenReturnsValues() {
+    Problem problem =
+        newInstance()
+            .extension("retryAfter", 30L)
+            .extension("remaining", 7)
+            .extension("ratio", 2.5)
+            .extension("retryable", true)
+            .extension("code", "E1")
+            .build();
+
+    assertThat(problem.getLongExtension("retryAfter", -1)).isEqualTo(30L);
+    assertThat(problem.getIntExtension("remaining", -1)).isEqualTo(7);
+    assertThat(problem.getLongExtension("remaining", -1)).isEqualTo(7L);
+    assertThat(problem.getDoubleExtension("ratio", -1)).isEqualTo(2.5);
+    assertThat(problem.getIntExtension("ratio", -1)).isEqualTo(2);
+    assertThat(problem.getBooleanExtension("retryable", false)).isTrue();
+    assertThat(problem.getLongExtension("retryable", -1)).isEqualTo(-1L);
+    assertThat(problem.getLongExtension("code", -1)).isEqualTo(-1L);
+    assertThat(problem.getLongExtension("missing", -1)).isEqualTo(-1L);
+    assertThat(problem.getBooleanExtension("missing", false)).isFalse();
+  }
+
+  @Test
+  void givenBoxedExtensions_whenReadByPrimitiveAccessors_thenReturnsValues() {
+    Problem problem =
+        newInstance()
+            .extension("retryAfter", (Object) 30L)
+            .extension("retryable", (Object) true)
+            .build();
+
+    assertThat(problem.getLongExtension("retryAfter", -1)).isEqualTo(30L);
+    assertThat(problem.getBooleanExtension("retryable", false)).isTrue();
+  }
+
+  @Test
+  void givenExtensionSetAgainWithOtherKind_whenBuild_thenLastValueWins() {
+    Problem objectAfterPrimitive =
+        newInstance().extension("value", 1L).extension("value", "one").build();
+    Problem primitiveAfterObject =
+        newInstance().extension("value", "one").extension("value", 1L).build();
+    Problem primitiveAfterTyped =
+        newInstance().extension(RETRY_AFTER, 10L).extension("retryAfter", 20).build();
+    Problem typedAfterPrimitive =
+        newInstance().extension("retryAfter", 20).extension(RETRY_AFTER, 10L).build();
+    Problem removedPrimitive =
+        newInstance().extension("value", true).extension("value", null).build();
+
+    assertThat(objectAfterPrimitive.getExtensions()).isEqualTo(Map.of("value", "one"));
+    assertThat(primitiveAfterObject.getExtensions()).isEqualTo(Map.of("value", 1L));
+    assertThat(primitiveAfterTyped.getExtensions()).isEqualTo(Map.of("retryAfter", 20));
+    assertThat(primitiveAfterTyped.getExtension(RETRY_AFTER)).isNull();
+    assertThat(typedAfterPrimitive.getExtensions()).isEqualTo(Map.of("retryAfter", 10L));
+    assertThat(removedPrimitive.getExtensions()).isEmpty();
+  }
+
+  @Test
+  void givenPrimitiveExtension_whenResetOrStatusOnly_thenHandledLikeOtherExtensions() {
+    ProblemBuilder builder = newInstance().status(404).extension("attempts", 3);
+
+    assertThat(builder.build()).isNotSameAs(Problem.of(404));
+    assertThat(builder.toString()).isEqualTo("ProblemBuilder[status=404, attempts=3]");
+    assertThat(builder.reset().status(404).build()).isSameAs(Problem.of(404));
+  }
+
+  @Test
+  void givenPrimitiveExtension_whenSerialized_thenDeserializedKeepsBoxedValue() throws Exception {
+    ProblemBuilder builder = newInstance().status(429).extension("retryAfter", 30L);
+    Problem problem = builder.build();
+
+    ProblemBuilder deserializedBuilder = Serialization.roundTrip(builder);
+    Problem deserializedProblem = Serialization.roundTrip(problem);
+
+    assertThat(deserializedBuilder.build()).isEqualTo(problem);
+    assertThat(deserializedProblem).isEqualTo(problem);
+    assertThat(deserializedProblem.getLongExtension("retryAfter", -1)).isEqualTo(30L);
+  }
+
+  @Test
+  void givenPrimitiveExtension_whenCopiedToBuilder_thenCopyKeepsValue() {
+    Problem problem = newInstance().extension("attempts", 3).build();
+
+    Problem copy = problem.toBuilder().extension("other", false).build();
+
+    assertThat(copy.getExtensions()).isEqualTo(Map.of("attempts", 3, "other", false));
+  }
+
+  @Test
+  void givenExtensionsInAnyOrder_whenBuild_thenExtensionsIterateInKeyOrder() {
+    Problem problem =
+        newInstance()
+            .extension("zone", "eu")
+            .extension(ExtensionKey.TRACE_ID, "t1")
+            .extension("attempts", 3)
+            .extension("code", "E1")
+            .build();
+
+    assertThat(problem.getExtensions().keySet())
+        .containsExactly("attempts", "code", "traceId", "zone");
+  }
 }
@@ -19,6 +19,15 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.lang.reflect.UndeclaredThrowableException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -679,4 +688,497 @@ void givenEmptyFieldNameInResolvePlaceholder_whenResolvingPlaceholder_thenReturn
     Object result = testMapper.resolvePlaceholderSource(new RuntimeException("test"), "");
     assertThat(result).isNull();
   }
+
+  @Test
+  void givenRegisteredProvider_whenToProblemBuilder_thenUsesProvider() {
+    Problem problem =
+        mapper.toProblemBuilder(new DummyProblemMappingProvider.ProvidedException()).build();
+
+    assertThat(problem.getDetail()).isEqualTo(DummyProblemMappingProvider.PROVIDED_DETAIL);
+  }
+
+  @Test
+  void givenRegisteredProviderForParentClass_whenToProblemBuilder_thenMapsReflectively() {
+    Problem problem =
+        mapper
+            .toProblemBuilder(new DummyProblemMappingProvider.ProvidedSubclassException())
+            .build();
+
+    assertThat(problem.getDetail()).isEqualTo(DummyProblemMappingProvider.REFLECTIVE_DETAIL);
+  }
+
+  @Test
+  void givenRegisteredProviderAndOverriddenHook_whenToProblemBuilder_thenMapsReflectively() {
+    DefaultProblemMapper customMapper =
+        new DefaultProblemMapper() {
+          @Override
+          protected String interpolate(
+              String template, Throwable t, @Nullable ProblemContext context) {
+            return super.interpolate(template, t, context).toUpperCase();
+          }
+        };
+
+    Problem problem =
+        customMapper.toProblemBuilder(new DummyProblemMappingProvider.ProvidedException()).build();
+
+    assertThat(problem.getDetail())
+        .isEqualTo(DummyProblemMappingProvider.REFLECTIVE_DETAIL.toUpperCase());
+  }
+
+  @Test
+  void givenSubclassWithoutOverriddenHook_whenToProblemBuilder_thenUsesProvider() {
+    DefaultProblemMapper customMapper = new DefaultProblemMapper() {};
+
+    Problem problem =
+        customMapper.toProblemBuilder(new DummyProblemMappingProvider.ProvidedException()).build();
+
+    assertThat(problem.getDetail()).isEqualTo(DummyProblemMappingProvider.PROVIDED_DETAIL);
+  }
+
+  @Test
+  void givenStaticTypeAndInstance_whenMappingTwice_thenReusesParsedUris() {
+    @ProblemMapping(
+        type = "https://example.org/probs/static",
+        title = "Static",
+        status = 400,
+        instance = "https://example.org/instances/static")
+    class StaticException extends RuntimeException {}
+
+    Problem first = mapper.toProblemBuilder(new StaticException()).build();
+    Problem second = mapper.toProblemBuilder(new StaticException()).build();
+
+    assertThat(first.getType()).isEqualTo(URI.create("https://example.org/probs/static"));
+    assertThat(first.getInstance()).isEqualTo(URI.create("https://example.org/instances/static"));
+    assertThat(second.getType()).isSameAs(first.getType());
+    assertThat(second.getInstance()).isSameAs(first.getInstance());
+  }
+
+  @Test
+  void givenInterpolatedInstance_whenMappingSameValueTwice_thenReusesParsedUri() {
+    @ProblemMapping(title = "Interpolated", status = 400, instance = "https://example.org/{id}")
+    class InterpolatedException extends RuntimeException {
+      private final String id;
+
+      InterpolatedException(String id) {
+        this.id = id;
+      }
+    }
+
+    Problem first = mapper.toProblemBuilder(new InterpolatedException("a1")).build();
+    Problem second = mapper.toProblemBuilder(new InterpolatedException("a1")).build();
+    Problem third = mapper.toProblemBuilder(new InterpolatedException("b2")).build();
+
+    assertThat(first.getInstance()).isEqualTo(URI.create("https://example.org/a1"));
+    assertThat(second.getInstance()).isSameAs(first.getInstance());
+    assertThat(third.getInstance()).isEqualTo(URI.create("https://example.org/b2"));
+  }
+
+  @Test
+  void givenStaticMapping_whenBuildingTwice_thenReturnsSameInstance() {
+    @ProblemMapping(
+        type = "https://example.org/probs/static",
+        title = "Static",
+        status = 409,
+        detail = "Static detail",
+        extensions = {" "})
+    class StaticException extends RuntimeException {
+      StaticException(String message) {
+        super(message);
+      }
+    }
+
+    Problem first = mapper.toProblemBuilder(new StaticException("a")).build();
+    Problem second = mapper.toProblemBuilder(new StaticException("b")).build();
+
+    assertThat(first)
+        .isEqualTo(
+            Problem.builder()
+                .type("https://example.org/probs/static")
+                .title("Static")
+                .status(409)
+                .detail("Static detail")
+                .build());
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void givenStaticMapping_whenBuilderModified_thenSharedInstanceIsNotAffected() {
+    @ProblemMapping(title = "Static", status = 409)
+    class StaticException extends RuntimeException {}
+
+    Problem shared = mapper.toProblemBuilder(new StaticException()).build();
+    Problem modified =
+        mapper
+            .toProblemBuilder(new StaticException())
+            .detail("Dynamic")
+            .extension("k", "v")
+            .build();
+
+    assertThat(modified).isNotSameAs(shared);
+    assertThat(modified.getDetail()).isEqualTo("Dynamic");
+    assertThat(modified.getExtensions().get("k")).isEqualTo("v");
+    assertThat(shared.getDetail()).isNull();
+    assertThat(shared.getExtensions()).isEmpty();
+    assertThat(mapper.toProblemBuilder(new StaticException()).build()).isSameAs(shared);
+  }
+
+  @Test
+  void givenStaticMappingWithoutTitle_whenStatusChanged_thenTitleIsResolvedForNewStatus() {
+    @ProblemMapping(status = 400)
+    class StaticException extends RuntimeException {}
+
+    Problem problem = mapper.toProblemBuilder(new StaticException()).status(404).build();
+
+    assertThat(problem.getTitle()).isEqualTo("Not Found");
+  }
+
+  @Test
+  void givenStaticMappingAndOverriddenHook_whenBuildingTwice_thenBuildsNewInstances() {
+    @ProblemMapping(title = "Static", status = 409)
+    class StaticException extends RuntimeException {}
+
+    DefaultProblemMapper customMapper =
+        new DefaultProblemMapper() {
+          @Override
+          protected String getRawTitle(ProblemMapping mapping) {
+            return "Custom";
+          }
+        };
+
+    Problem first = customMapper.toProblemBuilder(new StaticException()).build();
+    Problem second = customMapper.toProblemBuilder(new StaticException()).build();
+
+    assertThat(first.getTitle()).isEqualTo("Custom");
+    assertThat(second).isNotSameAs(first);
+  }
+
+  @Test
+  void givenWrappedAnnotatedCause_whenMappingWithCauseDepth_thenMapsCause() {
+    @ProblemMapping(title = "Wrapped", status = 409, detail = "{message}")
+    class WrappedException extends RuntimeException {
+      WrappedException(String message) {
+        super(message);
+      }
+    }
+    Throwable t =
+        new CompletionException(
+            new UndeclaredThrowableException(new WrappedException("inner failure")));
+    DefaultProblemMapper causeMapper = new DefaultProblemMapper(4);
+
+    Problem problem = causeMapper.toProblemBuilder(t).build();
+
+    assertThat(causeMapper.isMappingCandidate(t)).isTrue();
+    assertThat(problem)
+        .isEqualTo(Problem.builder().title("Wrapped").status(409).detail("inner failure").build());
+  }
+
+  @Test
+  void givenWrappedAnnotatedCause_whenMappingWithoutCauseDepth_thenReturnsEmptyBuilder() {
+    @ProblemMapping(title = "Wrapped", status = 409)
+    class WrappedException extends RuntimeException {}
+    Throwable t = new CompletionException(new WrappedException());
+
+    assertThat(mapper.isMappingCandidate(t)).isFalse();
+    assertThat(mapper.toProblemBuilder(t).build()).isEqualTo(Problem.builder().build());
+  }
+
+  @Test
+  void givenAnnotatedCauseBeyondDepth_whenMappingWithCauseDepth_thenReturnsEmptyBuilder() {
+    @ProblemMapping(title = "Wrapped", status = 409)
+    class WrappedException extends RuntimeException {}
+    Throwable t =
+        new RuntimeException(new RuntimeException(new RuntimeException(new WrappedException())));
+
+    assertThat(new DefaultProblemMapper(2).isMappingCandidate(t)).isFalse();
+    assertThat(new DefaultProblemMapper(3).isMappingCandidate(t)).isTrue();
+  }
+
+  @Test
+  void givenAnnotatedWrapperAndCause_whenMappingWithCauseDepth_thenMapsOutermost() {
+    @ProblemMapping(title = "Inner", status = 400)
+    class InnerException extends RuntimeException {}
+    @ProblemMapping(title = "Outer", status = 500)
+    class OuterException extends RuntimeException {
+      OuterException(Throwable cause) {
+        super(cause);
+      }
+    }
+
+    Problem problem =
+        new DefaultProblemMapper(4)
+            .toProblemBuilder(new OuterException(new InnerException()))
+            .build();
+
+    assertThat(problem.getTitle()).isEqualTo("Outer");
+  }
+
+  @Test
+  void givenCyclicCauseChain_whenMappingWithCauseDepth_thenReturnsEmptyBuilder() {
+    RuntimeException first = new RuntimeException("first");
+    RuntimeException second = new RuntimeException("second", first);
+    first.initCause(second);
+    DefaultProblemMapper causeMapper = new DefaultProblemMapper(Integer.MAX_VALUE);
+
+    assertThat(causeMapper.isMappingCandidate(first)).isFalse();
+    assertThat(causeMapper.toProblemBuilder(first).build()).isEqualTo(Problem.builder().build());
+  }
+
+  @Test
+  void givenNegativeCauseDepth_whenCreatingMapper_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> new DefaultProblemMapper(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void givenRegisteredDefinition_whenMapping_thenEvaluatesDefinitionLikeAnnotation() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(
+                TimeoutException.class,
+                ProblemMappingRegistry.definition()
+                    .type("https://example.org/probs/timeout")
+                    .title("Timeout")
+                    .status(504)
+                    .detail("timed out: {message}, trace {context.traceId}"));
+    DefaultProblemMapper registryMapper = new DefaultProblemMapper(registry);
+
+    Problem problem =
+        registryMapper
+            .toProblemBuilder(
+                new TimeoutException("after 5s"), ProblemContext.create().put("traceId", "T1"))
+            .build();
+
+    assertThat(registryMapper.isMappingCandidate(new TimeoutException())).isTrue();
+    assertThat(problem)
+        .isEqualTo(
+            Problem.builder()
+                .type("https://example.org/probs/timeout")
+                .title("Timeout")
+                .status(504)
+                .detail("timed out: after 5s, trace T1")
+                .build());
+  }
+
+  @Test
+  void givenRegisteredFunction_whenMappingSubclass_thenUsesFunction() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(
+                IllegalArgumentException.class,
+                (e, context) -> Problem.builder().status(400).detail(e.getMessage()));
+    DefaultProblemMapper registryMapper = new DefaultProblemMapper(registry);
+
+    Problem problem = registryMapper.toProblemBuilder(new NumberFormatException("NaN")).build();
+
+    assertThat(problem).isEqualTo(Problem.builder().status(400).detail("NaN").build());
+  }
+
+  @Test
+  void givenAnnotatedSubclassOfRegisteredClass_whenMapping_thenAnnotationTakesPrecedence() {
+    @ProblemMapping(title = "Annotated", status = 422)
+    class AnnotatedException extends IllegalArgumentException {}
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(
+                IllegalArgumentException.class, ProblemMappingRegistry.definition().status(400));
+
+    Problem problem =
+        new DefaultProblemMapper(registry).toProblemBuilder(new AnnotatedException()).build();
+
+    assertThat(problem.getTitle()).isEqualTo("Annotated");
+    assertThat(problem.getStatus()).isEqualTo(422);
+  }
+
+  @Test
+  void givenRegistryModifiedAfterMapperCreated_whenMapping_thenUsesNewEntry() {
+    ProblemMappingRegistry registry = ProblemMappingRegistry.create();
+    DefaultProblemMapper registryMapper = new DefaultProblemMapper(registry);
+    assertThat(registryMapper.isMappingCandidate(new TimeoutException())).isFalse();
+
+    registry.register(TimeoutException.class, ProblemMappingRegistry.definition().status(504));
+
+    assertThat(registryMapper.isMappingCandidate(new TimeoutException())).isTrue();
+    assertThat(registryMapper.toProblemBuilder(new TimeoutException()).build().getStatus())
+        .isEqualTo(504);
+  }
+
+  @Test
+  void givenRegisteredCauseAndCauseDepth_whenMappingWrapper_thenMapsCause() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(TimeoutException.class, ProblemMappingRegistry.definition().status(504));
+
+    Problem problem =
+        new DefaultProblemMapper(registry, 2)
+            .toProblemBuilder(new CompletionException(new TimeoutException()))
+            .build();
+
+    assertThat(problem.getStatus()).isEqualTo(504);
+  }
+
+  @Test
+  void givenCatchAllRegistrationAndAnnotatedCause_whenMappingWrapper_thenMapsCause() {
+    @ProblemMapping(title = "Not Found", status = 404)
+    class NotFoundException extends RuntimeException {}
+    class UnmappedException extends RuntimeException {}
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(RuntimeException.class, ProblemMappingRegistry.definition().status(500));
+    DefaultProblemMapper causeMapper = new DefaultProblemMapper(registry, 4);
+
+    Problem wrapped =
+        causeMapper.toProblemBuilder(new CompletionException(new NotFoundException())).build();
+    Problem fallback =
+        causeMapper.toProblemBuilder(new CompletionException(new UnmappedException())).build();
+
+    assertThat(wrapped.getStatus()).isEqualTo(404);
+    assertThat(fallback.getStatus()).isEqualTo(500);
+  }
+
+  @Test
+  void givenRegisteredFunctionThrowing_whenMapping_thenWrapsInProblemMappingException() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(
+                TimeoutException.class,
+                (e, context) -> {
+                  throw new IllegalStateException("boom");
+                });
+
+    assertThatThrownBy(
+            () -> new DefaultProblemMapper(registry).toProblemBuilder(new TimeoutException()))
+        .isInstanceOf(ProblemMappingException.class);
+  }
+
+  @Test
+  void givenMixedThrowables_whenMappingBatch_thenEqualsMappingOneByOne() {
+    @ProblemMapping(
+        type = "https://example.org/probs/{code}",
+        title = "Batch",
+        status = 400,
+        detail = "failed: {message}, trace {context.traceId}",
+        extensions = {"code"})
+    class BatchException extends RuntimeException {
+      private final String code;
+
+      BatchException(String code, String message) {
+        super(message);
+        this.code = code;
+      }
+    }
+    @ProblemMapping(title = "Static", status = 409)
+    class StaticException extends RuntimeException {}
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(
+                TimeoutException.class,
+                ProblemMappingRegistry.definition().status(504).detail("{message}"));
+    DefaultProblemMapper batchMapper = new DefaultProblemMapper(registry, 1);
+    ProblemContext context = ProblemContext.create().put("traceId", "T1");
+    List<Throwable> throwables =
+        Arrays.asList(
+            new BatchException("a", "first"),
+            null,
+            new StaticException(),
+            new IllegalStateException("unmapped"),
+            new TimeoutException("after 5s"),
+            new BatchException("b", "second"),
+            new CompletionException(new BatchException("c", null)));
+
+    List<Problem> problems = batchMapper.toProblems(throwables, context);
+
+    List<Problem> expected = new ArrayList<>();
+    for (Throwable t : throwables) {
+      expected.add(batchMapper.toProblemBuilder(t, context).build());
+    }
+    assertThat(problems).isEqualTo(expected);
+    assertThat(problems.get(5).getDetail()).isEqualTo("failed: second, trace T1");
+  }
+
+  @Test
+  void givenOverriddenHook_whenMappingBatch_thenHookIsApplied() {
+    @ProblemMapping(title = "Original", status = 400)
+    class HookedException extends RuntimeException {}
+    DefaultProblemMapper hookedMapper =
+        new DefaultProblemMapper() {
+          @Override
+          protected String getRawTitle(ProblemMapping mapping) {
+            return "Overridden";
+          }
+        };
+
+    List<Problem> problems =
+        hookedMapper.toProblems(Arrays.asList(new HookedException(), new HookedException()), null);
+
+    assertThat(problems.get(0).getTitle()).isEqualTo("Overridden");
+    assertThat(problems.get(1).getTitle()).isEqualTo("Overridden");
+  }
+
+  @Test
+  void givenDecoratedToProblemBuilder_whenMapping_thenKeepsPrebuiltPathAndDecoratesBatch() {
+    @ProblemMapping(title = "Static", status = 409)
+    class StaticException extends RuntimeException {}
+    DefaultProblemMapper decoratingMapper =
+        new DefaultProblemMapper() {
+          @Override
+          public ProblemBuilder toProblemBuilder(
+              @Nullable Throwable t, @Nullable ProblemContext context) {
+            return super.toProblemBuilder(t, context);
+          }
+
+          @Override
+          public boolean isMappingCandidate(@Nullable Throwable t) {
+            return super.isMappingCandidate(t);
+          }
+        };
+    DefaultProblemMapper taggingMapper =
+        new DefaultProblemMapper() {
+          @Override
+          public ProblemBuilder toProblemBuilder(
+              @Nullable Throwable t, @Nullable ProblemContext context) {
+            return super.toProblemBuilder(t, context).extension("tagged", true);
+          }
+        };
+
+    Problem first = decoratingMapper.toProblemBuilder(new StaticException(), null).build();
+    Problem second = decoratingMapper.toProblemBuilder(new StaticException(), null).build();
+    List<Problem> problems = taggingMapper.toProblems(Arrays.asList(new StaticException()), null);
+
+    assertThat(second).isSameAs(first);
+    assertThat(problems.get(0).getExtensions().get("tagged")).isEqualTo(true);
+  }
+
+  @Test
+  void givenThrowableStream_whenMappingBatch_thenEqualsMappingOneByOne() {
+    @ProblemMapping(status = 400, detail = "{message} {context.traceId}")
+    class StreamException extends RuntimeException {
+      StreamException(String message) {
+        super(message);
+      }
+    }
+    ProblemContext context = ProblemContext.create().put("traceId", "T1");
+
+    List<Problem> problems =
+        mapper
+            .toProblems(Stream.of(new StreamException("a"), new StreamException("b")), context)
+            .collect(Collectors.toList());
+
+    assertThat(problems)
+        .isEqualTo(
+            Arrays.asList(
+                Problem.builder().status(400).detail("a T1").build(),
+                Problem.builder().status(400).detail("b T1").build()));
+  }
+
+  @Test
+  void givenContextModifiedBeforeConsumingStream_whenMappingBatch_thenUsesContextAtCallTime() {
+    @ProblemMapping(detail = "{context.traceId}")
+    class StreamException extends RuntimeException {}
+    ProblemContext context = ProblemContext.create().put("traceId", "T1");
+
+    Stream<Problem> problems = mapper.toProblems(Stream.of(new StreamException()), context);
+    context.put("traceId", "T2");
+
+    assertThat(problems.collect(Collectors.toList()).get(0).getDetail()).isEqualTo("T1");
+  }
 }
@@ -19,7 +19,9 @@
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
 
@@ -311,4 +313,135 @@ void givenMinimalProblem_whenSerialized_thenDeserializedEqualsOriginal() throws
     assertThat(deserialized.getDetail()).isNull();
     assertThat(deserialized.getInstance()).isNull();
   }
+
+  @Test
+  void givenProblemWithExtensions_whenGettingExtensions_thenReturnsSameInstance() {
+    Problem problem =
+        new DefaultProblem(Problem.BLANK_TYPE, "T", 400, null, null, Map.of("key", "value"));
+
+    assertThat(problem.getExtensions()).isSameAs(problem.getExtensions());
+    assertThat(problem.getExtensions()).containsEntry("key", "value");
+  }
+
+  @Test
+  void givenProblemsWithoutExtensions_whenGettingExtensions_thenShareEmptyInstance() {
+    Problem first = new DefaultProblem(Problem.BLANK_TYPE, "T", 400, null, null, null);
+    Problem second = new DefaultProblem(Problem.BLANK_TYPE, "T", 400, null, null, new HashMap<>());
+
+    assertThat(first.getExtensions()).isSameAs(second.getExtensions());
+  }
+
+  @Test
+  void givenProblemWithExtensions_whenSerialized_thenDeserializedExtensionsAreCompact()
+      throws Exception {
+    Problem original =
+        new DefaultProblem(Problem.BLANK_TYPE, "T", 400, null, null, Map.of("key", "value"));
+
+    Problem deserialized = Serialization.roundTrip(original);
+
+    assertThat(deserialized.getExtensions()).isInstanceOf(ExtensionMap.class);
+    assertThat(deserialized.getExtensions()).isEqualTo(original.getExtensions());
+  }
+
+  @Test
+  void givenMutableExtensionValue_whenModified_thenEqualsAndHashCodeFollowIt() {
+    List<String> errors = new ArrayList<>();
+    Problem problem =
+        new DefaultProblem(Problem.BLANK_TYPE, "T", 400, "detail", null, Map.of("errors", errors));
+    int before = problem.hashCode();
+
+    errors.add("name must not be blank");
+    Problem other =
+        new DefaultProblem(
+            Problem.BLANK_TYPE,
+            "T",
+            400,
+            "detail",
+            null,
+            Map.of("errors", List.of("name must not be blank")));
+
+    assertThat(problem.hashCode()).isNotEqualTo(before);
+    assertThat(problem.hashCode()).isEqualTo(ProblemSupport.hashCode(problem));
+    assertThat(problem).isEqualTo(other);
+    assertThat(other).isEqualTo(problem);
+  }
+
+  @Test
+  void givenProblem_whenWithDetailOrInstance_thenSharesExtensionsAndLeavesOriginal() {
+    Problem original =
+        new DefaultProblem(Problem.BLANK_TYPE, "T", 400, "base", null, Map.of("key", "value"));
+
+    Problem withDetail = original.withDetail("changed");
+    Problem withInstance = original.withInstance("/requests/1");
+
+    assertThat(withDetail)
+        .isEqualTo(original.toBuilder().detail("changed").build())
+        .isNotEqualTo(original);
+    assertThat(withInstance).isEqualTo(original.toBuilder().instance("/requests/1").build());
+    assertThat(withDetail.getExtensions()).isSameAs(original.getExtensions());
+    assertThat(withInstance.getExtensions()).isSameAs(original.getExtensions());
+    assertThat(original.getDetail()).isEqualTo("base");
+    assertThat(original.getInstance()).isNull();
+  }
+
+  @Test
+  void givenProblem_whenWithUnchangedValues_thenReturnsSameInstance() {
+    Problem original =
+        new DefaultProblem(Problem.BLANK_TYPE, "T", 400, "base", null, Map.of("key", "value"));
+
+    assertThat(original.withDetail("base")).isSameAs(original);
+    assertThat(original.withInstance((URI) null)).isSameAs(original);
+    assertThat(original.withExtension("key", "value")).isSameAs(original);
+    assertThat(original.withExtension("missing", null)).isSameAs(original);
+  }
+
+  @Test
+  void givenProblem_whenWithExtension_thenEqualsProblemBuiltByBuilder() {
+    Problem original =
+        Problem.builder()
+            .status(400)
+            .extension("key", "value")
+            .extension(ExtensionKey.TRACE_ID, "t1")
+            .extension("attempts", 3)
+            .build();
+
+    Problem added = original.withExtension("other", "value");
+    Problem replaced = original.withExtension("traceId", "t2").withExtension("attempts", 4);
+    Problem removed = original.withExtension("key", null).withExtension("attempts", null);
+
+    assertThat(added).isEqualTo(original.toBuilder().extension("other", "value").build());
+    assertThat(replaced.getExtensions())
+        .isEqualTo(Map.of("key", "value", "traceId", "t2", "attempts", 4));
+    assertThat(replaced.getExtension(ExtensionKey.TRACE_ID)).isEqualTo("t2");
+    assertThat(removed.getExtensions()).isEqualTo(Map.of("traceId", "t1"));
+    assertThat(original.getExtensions())
+        .isEqualTo(Map.of("key", "value", "traceId", "t1", "attempts", 3));
+  }
+
+  @Test
+  void givenCustomProblemImplementation_whenWithMethods_thenBuildsDefaultProblem() {
+    Problem custom =
+        new Problem() {
+          @Override
+          public String getTitle() {
+            return "Title";
+          }
+
+          @Override
+          public int getStatus() {
+            return 400;
+          }
+        };
+
+    Problem derived = custom.withDetail("detail").withExtension("key", "value");
+
+    assertThat(derived)
+        .isEqualTo(
+            Problem.builder()
+                .title("Title")
+                .status(400)
+                .detail("detail")
+                .extension("key", "value")
+                .build());
+  }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import org.jspecify.annotations.Nullable;
+
+public class DummyProblemMappingProvider implements ProblemMappingProvider {
+
+  static final String PROVIDED_DETAIL = "provided";
+  static final String REFLECTIVE_DETAIL = "reflective";
+
+  @Override
+  public Class<? extends Throwable> getExceptionType() {
+    return ProvidedException.class;
+  }
+
+  @Override
+  public ProblemBuilder toProblemBuilder(Throwable t, @Nullable ProblemContext context) {
+    return Problem.builder().title("Provided").status(400).detail(PROVIDED_DETAIL);
+  }
+
+  // placeholder in detail, so that the mapping is not evaluated once per class like static ones
+  @ProblemMapping(title = "Provided", status = 400, detail = REFLECTIVE_DETAIL + "{message}")
+  public static class ProvidedException extends RuntimeException {}
+
+  public static class ProvidedSubclassException extends ProvidedException {}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class ExtensionKeyTest {
+
+  @Test
+  void givenSameNameAndType_whenRegisteringTwice_thenReturnsSameKey() {
+    ExtensionKey<String> first = ExtensionKey.of("extensionKeyTest.same", String.class);
+    ExtensionKey<String> second = ExtensionKey.of("extensionKeyTest.same", String.class);
+
+    assertThat(first).isSameAs(second);
+    assertThat(first.getName()).isEqualTo("extensionKeyTest.same");
+    assertThat(first.getType()).isEqualTo(String.class);
+  }
+
+  @Test
+  void givenDifferentNames_whenRegistering_thenKeysHaveDistinctSlots() {
+    ExtensionKey<String> first = ExtensionKey.of("extensionKeyTest.first", String.class);
+    ExtensionKey<Integer> second = ExtensionKey.of("extensionKeyTest.second", Integer.class);
+
+    assertThat(first.getIndex()).isNotEqualTo(second.getIndex());
+    assertThat(ExtensionKey.at(first.getIndex())).isSameAs(first);
+    assertThat(ExtensionKey.find("extensionKeyTest.second")).isSameAs(second);
+  }
+
+  @Test
+  void givenRegisteredName_whenRegisteringWithOtherType_thenThrowsIllegalArgumentException() {
+    ExtensionKey.of("extensionKeyTest.typed", String.class);
+
+    assertThatThrownBy(() -> ExtensionKey.of("extensionKeyTest.typed", Integer.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void givenPrimitiveType_whenRegistering_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> ExtensionKey.of("extensionKeyTest.primitive", int.class))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void givenUnindexedKey_whenInspecting_thenIsNotRegistered() {
+    ExtensionKey<String> key = ExtensionKey.unindexed("extensionKeyTest.unindexed", String.class);
+
+    assertThat(key.getIndex()).isEqualTo(ExtensionKey.UNINDEXED);
+    assertThat(ExtensionKey.find("extensionKeyTest.unindexed")).isNull();
+    assertThat(ExtensionKey.of("extensionKeyTest.unindexed", Integer.class).getIndex())
+        .isNotEqualTo(ExtensionKey.UNINDEXED);
+  }
+
+  @Test
+  void givenWellKnownKeys_whenInspecting_thenHaveExpectedNamesAndTypes() {
+    assertThat(ExtensionKey.TRACE_ID.getName()).isEqualTo("traceId");
+    assertThat(ExtensionKey.ERROR_CODE.getName()).isEqualTo("errorCode");
+    assertThat(ExtensionKey.ERROR_CODE.getType()).isEqualTo(String.class);
+    assertThat(ExtensionKey.TRACE_ID.toString()).isEqualTo("ExtensionKey[traceId: String]");
+  }
+}
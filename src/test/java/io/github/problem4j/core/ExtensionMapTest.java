@@ -0,0 +1,262 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+class ExtensionMapTest {
+
+  @Test
+  void givenNullOrEmptyMap_whenCopyOf_thenReturnsSharedEmptyInstance() {
+    assertThat(ExtensionMap.copyOf(null)).isSameAs(ExtensionMap.EMPTY);
+    assertThat(ExtensionMap.copyOf(new HashMap<>())).isSameAs(ExtensionMap.EMPTY);
+  }
+
+  @Test
+  void givenSmallMap_whenCopyOf_thenEqualsOriginal() {
+    Map<String, Object> original = new LinkedHashMap<>();
+    original.put("userId", "u-1");
+    original.put("attempts", 3);
+    original.put("nullable", null);
+
+    Map<String, Object> copy = ExtensionMap.copyOf(original);
+
+    assertThat(copy).isInstanceOf(ExtensionMap.class);
+    assertThat(copy).isEqualTo(original);
+    assertThat(copy.hashCode()).isEqualTo(original.hashCode());
+    assertThat(copy).hasSize(3);
+    assertThat(copy.get("attempts")).isEqualTo(3);
+    assertThat(copy.containsKey("nullable")).isTrue();
+    assertThat(copy.get("missing")).isNull();
+    assertThat(copy.containsKey("missing")).isFalse();
+    assertThat(copy.keySet()).containsExactly("attempts", "nullable", "userId");
+  }
+
+  @Test
+  void givenSourceModified_whenCopyOf_thenCopyIsNotAffected() {
+    Map<String, Object> original = new HashMap<>();
+    original.put("key", "value");
+
+    Map<String, Object> copy = ExtensionMap.copyOf(original);
+    original.put("other", "value");
+
+    assertThat(copy).hasSize(1);
+  }
+
+  @Test
+  void givenLargeMap_whenCopyOf_thenFallsBackToHashedMap() {
+    Map<String, Object> original = new HashMap<>();
+    for (int i = 0; i <= ExtensionMap.MAX_ARRAY_SIZE; i++) {
+      original.put("key" + i, i);
+    }
+
+    Map<String, Object> copy = ExtensionMap.copyOf(original);
+    original.clear();
+
+    assertThat(copy).hasSize(ExtensionMap.MAX_ARRAY_SIZE + 1);
+    assertThat(copy.get("key3")).isEqualTo(3);
+    assertThat(copy.containsKey("key0")).isTrue();
+    assertThatThrownBy(() -> copy.put("key", 1)).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void givenMap_whenAdopted_thenReturnsViewWithoutCopying() {
+    Map<String, Object> original = new HashMap<>();
+    original.put("key", "value");
+
+    Map<String, Object> adopted = ExtensionMap.adopt(original);
+
+    assertThat(adopted).isEqualTo(original);
+    assertThat(ExtensionMap.copyOf(adopted)).isSameAs(adopted);
+    assertThat(ExtensionMap.adopt(new HashMap<>())).isSameAs(ExtensionMap.EMPTY);
+    assertThatThrownBy(() -> adopted.put("other", 1))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> adopted.entrySet().iterator().next().setValue("other"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void givenExtensionMap_whenCopyOf_thenReturnsSameInstance() {
+    Map<String, Object> copy = ExtensionMap.copyOf(Map.of("key", "value"));
+
+    assertThat(ExtensionMap.copyOf(copy)).isSameAs(copy);
+  }
+
+  @Test
+  void givenExtensionMap_whenModifying_thenThrowsUnsupportedOperationException() {
+    Map<String, Object> copy = ExtensionMap.copyOf(Map.of("key", "value"));
+
+    assertThatThrownBy(() -> copy.put("other", 1))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> copy.remove("key")).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(copy::clear).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> copy.entrySet().iterator().next().setValue("other"))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> ExtensionMap.EMPTY.remove("key"))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void givenExtensionMap_whenSerialized_thenDeserializedEqualsOriginal() throws Exception {
+    Map<String, Object> copy = ExtensionMap.copyOf(Map.of("key", "value"));
+
+    Map<String, Object> deserialized = Serialization.roundTrip(copy);
+
+    assertThat(deserialized).isEqualTo(copy);
+  }
+
+  @Test
+  void givenPrimitiveValues_whenCopyOf_thenBoxedOnlyInMapView() {
+    PrimitiveExtensions primitives = new PrimitiveExtensions();
+    primitives.put("count", PrimitiveExtensions.INT, 3);
+    primitives.put("ratio", PrimitiveExtensions.DOUBLE, Double.doubleToRawLongBits(0.5));
+    primitives.put("flag", PrimitiveExtensions.BOOLEAN, 1);
+
+    ExtensionMap copy =
+        (ExtensionMap) ExtensionMap.copyOf(Map.of("key", "value"), null, primitives);
+    primitives.clear();
+
+    assertThat(copy).isEqualTo(Map.of("key", "value", "count", 3, "ratio", 0.5, "flag", true));
+    assertThat(copy.getLong("count", -1)).isEqualTo(3L);
+    assertThat(copy.getInt("ratio", -1)).isEqualTo(0);
+    assertThat(copy.getDouble("ratio", -1)).isEqualTo(0.5);
+    assertThat(copy.getBoolean("flag", false)).isTrue();
+    assertThat(copy.getLong("flag", -1)).isEqualTo(-1L);
+    assertThat(copy.getBoolean("count", false)).isFalse();
+  }
+
+  @Test
+  void givenSmallMap_whenWith_thenReturnsChangedCopyAndLeavesOriginal() {
+    ExtensionMap original = (ExtensionMap) ExtensionMap.copyOf(Map.of("a", 1, "b", 2));
+
+    ExtensionMap added = original.with("c", 3);
+    ExtensionMap replaced = original.with("a", 10);
+    ExtensionMap removed = original.with("a", null);
+
+    assertThat(added).isEqualTo(Map.of("a", 1, "b", 2, "c", 3));
+    assertThat(replaced).isEqualTo(Map.of("a", 10, "b", 2));
+    assertThat(removed).isEqualTo(Map.of("b", 2));
+    assertThat(removed.with("b", null)).isSameAs(ExtensionMap.EMPTY);
+    assertThat(original).isEqualTo(Map.of("a", 1, "b", 2));
+  }
+
+  @Test
+  void givenLargeMap_whenWith_thenOverlaysChangesOnSharedTable() {
+    Map<String, Object> source = new HashMap<>();
+    for (int i = 0; i < ExtensionMap.MAX_ARRAY_SIZE + 2; i++) {
+      source.put("key" + i, i);
+    }
+    ExtensionMap original = (ExtensionMap) ExtensionMap.copyOf(source);
+
+    ExtensionMap derived = original.with("key0", null).with("key1", "changed").with("extra", true);
+
+    Map<String, Object> expected = new HashMap<>(source);
+    expected.remove("key0");
+    expected.put("key1", "changed");
+    expected.put("extra", true);
+    assertThat(derived).isEqualTo(expected);
+    assertThat(derived).hasSize(expected.size());
+    assertThat(derived.containsKey("key0")).isFalse();
+    assertThat(derived.get("key0")).isNull();
+    assertThat(derived.entrySet()).hasSize(expected.size());
+    assertThat(new ArrayList<>(derived.keySet()))
+        .isEqualTo(new ArrayList<>(new TreeMap<>(expected).keySet()));
+    assertThat(original).isEqualTo(source);
+  }
+
+  @Test
+  void givenManyChanges_whenWith_thenOverlayIsMergedIntoNewTable() {
+    ExtensionMap map = ExtensionMap.EMPTY;
+    Map<String, Object> expected = new HashMap<>();
+    for (int i = 0; i < ExtensionMap.MAX_ARRAY_SIZE * 3; i++) {
+      map = map.with("key" + i, i);
+      expected.put("key" + i, i);
+      if (i % 3 == 0) {
+        map = map.with("key" + (i / 2), null);
+        expected.remove("key" + (i / 2));
+      }
+    }
+
+    assertThat(map).isEqualTo(expected);
+    assertThat(map).hasSize(expected.size());
+  }
+
+  @Test
+  void givenKeyedAndPrimitiveValues_whenWithSameName_thenNamedValueReplacesThem() {
+    PrimitiveExtensions primitives = new PrimitiveExtensions();
+    primitives.put("count", PrimitiveExtensions.INT, 3);
+    Object[] keyed = new Object[ExtensionKey.TRACE_ID.getIndex() + 1];
+    keyed[ExtensionKey.TRACE_ID.getIndex()] = "t1";
+    ExtensionMap original = (ExtensionMap) ExtensionMap.copyOf(null, keyed, primitives);
+
+    ExtensionMap derived = original.with("count", "three").with("traceId", "t2");
+
+    assertThat(derived).isEqualTo(Map.of("count", "three", "traceId", "t2"));
+    assertThat(derived.getKeyed(ExtensionKey.TRACE_ID)).isEqualTo("t2");
+    assertThat(original).isEqualTo(Map.of("count", 3, "traceId", "t1"));
+  }
+
+  @Test
+  void givenEntriesInAnyOrder_whenCopyOf_thenIteratesInKeyOrder() {
+    Map<String, Object> small = new LinkedHashMap<>();
+    small.put("c", 3);
+    small.put("a", 1);
+    small.put("b", 2);
+    Map<String, Object> large = new HashMap<>();
+    for (int i = ExtensionMap.MAX_ARRAY_SIZE + 2; i > 0; i--) {
+      large.put("key" + (char) ('a' + i), i);
+    }
+
+    assertThat(ExtensionMap.copyOf(small).keySet()).containsExactly("a", "b", "c");
+    assertThat(new ArrayList<>(ExtensionMap.copyOf(large).keySet()))
+        .isEqualTo(new ArrayList<>(new TreeMap<>(large).keySet()));
+    assertThat(ExtensionMap.copyOf(large)).isEqualTo(large);
+  }
+
+  @Test
+  void givenKeyedPrimitiveAndNamedValues_whenIterating_thenInKeyOrder() {
+    PrimitiveExtensions primitives = new PrimitiveExtensions();
+    primitives.put("zeta", PrimitiveExtensions.LONG, 1);
+    primitives.put("alpha", PrimitiveExtensions.BOOLEAN, 1);
+    Object[] keyed = new Object[ExtensionKey.TRACE_ID.getIndex() + 1];
+    keyed[ExtensionKey.TRACE_ID.getIndex()] = "t1";
+
+    Map<String, Object> map = ExtensionMap.copyOf(Map.of("mid", "m"), keyed, primitives);
+
+    assertThat(map.keySet()).containsExactly("alpha", "mid", "traceId", "zeta");
+    assertThat(map.values()).containsExactly(true, "m", "t1", 1L);
+  }
+
+  @Test
+  void givenSortedMap_whenWith_thenKeepsKeyOrder() {
+    ExtensionMap map = (ExtensionMap) ExtensionMap.copyOf(Map.of("b", 2, "d", 4));
+
+    ExtensionMap derived = map.with("c", 3).with("a", 1).with("e", 5).with("d", null);
+
+    assertThat(derived.keySet()).containsExactly("a", "b", "c", "e");
+    assertThat(derived.get("c")).isEqualTo(3);
+    assertThat(derived.get("d")).isNull();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class FieldAccessorsTest {
+
+  static class BaseException extends RuntimeException {
+
+    private static final String STATIC_VALUE = "static";
+
+    private final int count = 7;
+  }
+
+  static class ChildException extends BaseException {
+
+    private final String id = "child";
+    private final long number = 42L;
+    private final Object nothing = null;
+  }
+
+  @Test
+  void givenPrivateField_whenRead_thenReturnsValue() {
+    assertThat(FieldAccessors.read(new ChildException(), "id")).isEqualTo("child");
+  }
+
+  @Test
+  void givenPrimitiveField_whenRead_thenReturnsBoxedValue() {
+    assertThat(FieldAccessors.read(new ChildException(), "number")).isEqualTo(42L);
+  }
+
+  @Test
+  void givenFieldInSuperclass_whenRead_thenReturnsValue() {
+    assertThat(FieldAccessors.read(new ChildException(), "count")).isEqualTo(7);
+  }
+
+  @Test
+  void givenStaticField_whenRead_thenReturnsValue() {
+    assertThat(FieldAccessors.read(new ChildException(), "STATIC_VALUE")).isEqualTo("static");
+  }
+
+  @Test
+  void givenNullField_whenRead_thenReturnsNull() {
+    assertThat(FieldAccessors.read(new ChildException(), "nothing")).isNull();
+  }
+
+  @Test
+  void givenMissingField_whenRead_thenReturnsNull() {
+    assertThat(FieldAccessors.read(new ChildException(), "missing")).isNull();
+  }
+
+  @Test
+  void givenSameClassAndName_whenFind_thenReturnsCachedAccessor() {
+    assertThat(FieldAccessors.find(ChildException.class, "id"))
+        .isSameAs(FieldAccessors.find(ChildException.class, "id"));
+    assertThat(FieldAccessors.find(ChildException.class, "missing"))
+        .isSameAs(FieldAccessors.find(ChildException.class, "missing"));
+  }
+
+  @Test
+  void givenDifferentInstances_whenRead_thenReturnsValuesOfEachInstance() {
+    class ValueException extends RuntimeException {
+
+      private final String value;
+
+      ValueException(String value) {
+        this.value = value;
+      }
+    }
+
+    assertThat(FieldAccessors.read(new ValueException("a"), "value")).isEqualTo("a");
+    assertThat(FieldAccessors.read(new ValueException("b"), "value")).isEqualTo("b");
+  }
+}
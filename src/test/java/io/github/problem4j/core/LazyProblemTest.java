@@ -0,0 +1,242 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.ref.WeakReference;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LazyProblemTest {
+
+  private final DefaultProblemMapper mapper = new DefaultProblemMapper();
+
+  @ProblemMapping(
+      type = "https://example.org/probs/{code}",
+      title = "Lazy {code}",
+      status = 409,
+      detail = "{message} trace {context.traceId}",
+      instance = "https://example.org/instances/{id}",
+      extensions = {"code", "id"})
+  static class CountingException extends RuntimeException {
+
+    private final AtomicInteger messageReads = new AtomicInteger();
+    private final String code;
+    private final int id;
+
+    CountingException(String code, int id) {
+      this.code = code;
+      this.id = id;
+    }
+
+    @Override
+    public String getMessage() {
+      messageReads.incrementAndGet();
+      return "failed " + code;
+    }
+  }
+
+  @Test
+  void givenMappedException_whenToLazyProblem_thenEqualsEagerProblem() {
+    CountingException ex = new CountingException("E1", 7);
+    ProblemContext context = ProblemContext.create().put("traceId", "T1");
+
+    Problem lazy = mapper.toLazyProblem(ex, context);
+    Problem eager = mapper.toProblemBuilder(ex, context).build();
+
+    assertThat(lazy).isInstanceOf(LazyProblem.class);
+    assertThat(lazy).isEqualTo(eager);
+    assertThat(eager).isEqualTo(lazy);
+    assertThat(lazy.hashCode()).isEqualTo(eager.hashCode());
+    assertThat(lazy.toString()).isEqualTo(eager.toString());
+  }
+
+  @Test
+  void givenAllFieldsRead_whenThrowableUnreachable_thenThrowableCanBeCollected() throws Exception {
+    CountingException ex = new CountingException("E1", 7);
+    WeakReference<Throwable> reference = new WeakReference<>(ex);
+    Problem problem = mapper.toLazyProblem(ex, ProblemContext.create().put("traceId", "T1"));
+    problem.getType();
+    problem.getTitle();
+    problem.getDetail();
+    problem.getInstance();
+    problem.getExtensions();
+    ex = null;
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertThat(reference.get()).isNull();
+    assertThat(problem.getDetail()).isEqualTo("failed E1 trace T1");
+    assertThat(problem.getExtensions().get("code")).isEqualTo("E1");
+  }
+
+  @Test
+  void givenLazyProblem_whenOnlyStatusRead_thenNothingIsInterpolated() {
+    CountingException ex = new CountingException("E1", 7);
+
+    Problem problem = mapper.toLazyProblem(ex, null);
+
+    assertThat(problem.getStatus()).isEqualTo(409);
+    assertThat(ex.messageReads.get()).isZero();
+  }
+
+  @Test
+  void givenLazyProblem_whenDetailReadTwice_thenRendersOnce() {
+    CountingException ex = new CountingException("E1", 7);
+    Problem problem = mapper.toLazyProblem(ex, null);
+
+    String first = problem.getDetail();
+    String second = problem.getDetail();
+
+    assertThat(first).isEqualTo("failed E1 trace ");
+    assertThat(second).isSameAs(first);
+    assertThat(ex.messageReads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void givenLazyProblem_whenDetailReadConcurrently_thenRendersOnce() throws Exception {
+    CountingException ex = new CountingException("E1", 7);
+    Problem problem = mapper.toLazyProblem(ex, null);
+    int threads = 8;
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        results.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  return problem.getDetail();
+                }));
+      }
+      start.countDown();
+      for (Future<String> result : results) {
+        assertThat(result.get()).isEqualTo("failed E1 trace ");
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(ex.messageReads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void givenContextModifiedAfterMapping_whenReadingDetail_thenUsesContextAtMappingTime() {
+    ProblemContext context = ProblemContext.create().put("traceId", "T1");
+    Problem problem = mapper.toLazyProblem(new CountingException("E1", 7), context);
+
+    context.put("traceId", "T2");
+
+    assertThat(problem.getDetail()).isEqualTo("failed E1 trace T1");
+  }
+
+  @Test
+  void givenLazyProblem_whenReadingAllFields_thenReturnsInterpolatedValues() {
+    Problem problem = mapper.toLazyProblem(new CountingException("E1", 7), null);
+
+    assertThat(problem.getType()).isEqualTo(URI.create("https://example.org/probs/E1"));
+    assertThat(problem.getTitle()).isEqualTo("Lazy E1");
+    assertThat(problem.getInstance()).isEqualTo(URI.create("https://example.org/instances/7"));
+    assertThat(problem.getExtensions()).containsEntry("code", "E1").containsEntry("id", 7);
+  }
+
+  @Test
+  void givenLazyProblem_whenSerialized_thenDeserializesAsDefaultProblem() throws Exception {
+    Problem problem = mapper.toLazyProblem(new CountingException("E1", 7), null);
+
+    Problem deserialized = Serialization.roundTrip(problem);
+
+    assertThat(deserialized).isInstanceOf(DefaultProblem.class);
+    assertThat(deserialized).isEqualTo(problem);
+  }
+
+  @Test
+  void givenTitleResolvingToEmpty_whenReadingTitle_thenFallsBackToStatusTitle() {
+    @ProblemMapping(title = "{missing}", status = 404, detail = "{message}")
+    class EmptyTitleException extends RuntimeException {}
+
+    Problem problem = mapper.toLazyProblem(new EmptyTitleException(), null);
+
+    assertThat(problem.getTitle()).isEqualTo("Not Found");
+    assertThat(problem.getType()).isEqualTo(Problem.BLANK_TYPE);
+  }
+
+  @Test
+  void givenStaticMapping_whenToLazyProblem_thenReturnsPrebuiltProblem() {
+    @ProblemMapping(title = "Static", status = 400)
+    class StaticException extends RuntimeException {}
+
+    Problem first = mapper.toLazyProblem(new StaticException(), null);
+    Problem second = mapper.toLazyProblem(new StaticException(), null);
+
+    assertThat(first).isNotInstanceOf(LazyProblem.class);
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void givenMapperWithOverriddenHook_whenToLazyProblem_thenInterpolatesEagerly() {
+    DefaultProblemMapper customMapper =
+        new DefaultProblemMapper() {
+          @Override
+          protected String getRawTitle(ProblemMapping mapping) {
+            return "Custom";
+          }
+        };
+    CountingException ex = new CountingException("E1", 7);
+
+    Problem problem = customMapper.toLazyProblem(ex, null);
+
+    assertThat(problem).isNotInstanceOf(LazyProblem.class);
+    assertThat(problem.getTitle()).isEqualTo("Custom");
+    assertThat(ex.messageReads.get()).isEqualTo(1);
+  }
+
+  @Test
+  void givenUnmappedOrNullThrowable_whenToLazyProblem_thenReturnsEmptyProblem() {
+    assertThat(mapper.toLazyProblem(new RuntimeException(), null))
+        .isEqualTo(Problem.builder().build());
+    assertThat(mapper.toLazyProblem(null, null)).isEqualTo(Problem.builder().build());
+  }
+
+  @Test
+  void givenFailingInterpolation_whenReadingField_thenThrowsProblemMappingException() {
+    @ProblemMapping(status = 500, detail = "{message}")
+    class FailingException extends RuntimeException {
+      @Override
+      public String getMessage() {
+        throw new IllegalStateException("boom");
+      }
+    }
+    Problem problem = mapper.toLazyProblem(new FailingException(), null);
+
+    assertThat(problem.getStatus()).isEqualTo(500);
+    assertThatThrownBy(problem::getDetail).isInstanceOf(ProblemMappingException.class);
+  }
+}
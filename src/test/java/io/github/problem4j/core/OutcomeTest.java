@@ -0,0 +1,144 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class OutcomeTest {
+
+  private final ProblemMapper mapper =
+      (t, context) -> Problem.builder().status(500).detail(t != null ? t.getMessage() : null);
+
+  @Test
+  void givenOk_whenCalledTwice_thenReturnsSharedSuccessWithoutValue() {
+    assertThat(Outcome.ok()).isSameAs(Outcome.ok());
+    assertThat(Outcome.ok().isSuccess()).isTrue();
+    assertThat(Outcome.ok().orElseThrow()).isNull();
+  }
+
+  @Test
+  void givenSuccess_whenMappingAndFlatMapping_thenAppliesFunctions() {
+    Outcome<Integer> outcome =
+        Outcome.success("42").map(Integer::parseInt).flatMap(i -> Outcome.success(i + 1));
+
+    assertThat(outcome.isSuccess()).isTrue();
+    assertThat(outcome.isFailure()).isFalse();
+    assertThat(outcome.getProblem()).isNull();
+    assertThat(outcome.orElseThrow()).isEqualTo(43);
+    assertThat(outcome).isEqualTo(Outcome.success(43));
+  }
+
+  @Test
+  void givenSuccess_whenMappingToSameValue_thenReturnsSameInstance() {
+    Outcome<String> outcome = Outcome.success("value");
+
+    assertThat(outcome.map(value -> value)).isSameAs(outcome);
+  }
+
+  @Test
+  void givenFailure_whenMappingAndFlatMapping_thenSkipsFunctionsAndReturnsSameInstance() {
+    AtomicInteger calls = new AtomicInteger();
+    Outcome<String> failure = Outcome.failure(Problem.of(400));
+
+    Outcome<Integer> mapped = failure.map(value -> calls.incrementAndGet());
+    Outcome<Integer> flatMapped =
+        failure.flatMap(value -> Outcome.success(calls.incrementAndGet()));
+
+    assertThat(mapped).isSameAs(failure);
+    assertThat(flatMapped).isSameAs(failure);
+    assertThat(calls.get()).isEqualTo(0);
+    assertThat(failure.isFailure()).isTrue();
+    assertThat(failure.getProblem()).isEqualTo(Problem.of(400));
+    assertThat(failure.orElse("other")).isEqualTo("other");
+  }
+
+  @Test
+  void givenFailure_whenOrElseThrow_thenThrowsProblemExceptionWithProblem() {
+    Problem problem = Problem.of("Bad Request", 400);
+    Outcome<String> failure = Outcome.success("value").flatMap(value -> Outcome.failure(problem));
+
+    assertThatThrownBy(failure::orElseThrow)
+        .isInstanceOf(ProblemException.class)
+        .hasMessage("Bad Request (status: 400)");
+  }
+
+  @Test
+  void givenFailure_whenOrElseThrowWithFactory_thenThrowsCreatedException() {
+    Outcome<String> failure = Outcome.failure(Problem.of(400));
+
+    assertThatThrownBy(() -> failure.orElseThrow(ProblemException::stackless))
+        .isInstanceOf(ProblemException.class)
+        .hasMessage("Bad Request (status: 400)");
+  }
+
+  @Test
+  void givenThrowable_whenFailure_thenMapsItOnce() {
+    Outcome<String> mapped = Outcome.failure(new IllegalStateException("broken"), mapper);
+    Outcome<String> fromProblemException =
+        Outcome.failure(new ProblemException(Problem.of(404)), mapper);
+
+    assertThat(mapped.getProblem())
+        .isEqualTo(Problem.builder().status(500).detail("broken").build());
+    assertThat(fromProblemException.getProblem()).isSameAs(Problem.of(404));
+  }
+
+  @Test
+  void givenAction_whenAttempt_thenReturnsValueOrMappedFailure() {
+    Outcome<String> success = Outcome.attempt(() -> "value", mapper);
+    Outcome<String> failure =
+        Outcome.attempt(
+            () -> {
+              throw new IllegalArgumentException("invalid");
+            },
+            mapper);
+
+    assertThat(success).isEqualTo(Outcome.success("value"));
+    assertThat(failure.getProblem())
+        .isEqualTo(Problem.builder().status(500).detail("invalid").build());
+  }
+
+  @Test
+  void givenNullProblem_whenFailure_thenThrowsNullPointerException() {
+    assertThatThrownBy(() -> Outcome.failure((Problem) null))
+        .isInstanceOf(NullPointerException.class);
+  }
+
+  @Test
+  void givenInterruptedAction_whenAttempt_thenRestoresInterruptStatus() {
+    Outcome<String> failure =
+        Outcome.attempt(
+            () -> {
+              throw new InterruptedException("interrupted");
+            },
+            mapper);
+
+    assertThat(Thread.interrupted()).isTrue();
+    assertThat(failure.getProblem())
+        .isEqualTo(Problem.builder().status(500).detail("interrupted").build());
+  }
+
+  @Test
+  void givenOutcomes_whenToString_thenDescribesValueOrProblem() {
+    assertThat(Outcome.success("value").toString()).isEqualTo("Outcome[value=value]");
+    assertThat(Outcome.failure(Problem.of(400)).toString())
+        .isEqualTo("Outcome[problem=" + Problem.of(400) + "]");
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PlaceholderTemplateTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "plain text", "before{}after", "Bad {notClosed", "}{"})
+  void givenTemplateWithoutPlaceholders_whenCompile_thenIsLiteral(String template) {
+    PlaceholderTemplate compiled = PlaceholderTemplate.compile(template);
+
+    assertThat(compiled.isLiteral()).isTrue();
+    assertThat(compiled.valueAt(0)).isEqualTo(template);
+  }
+
+  @Test
+  void givenTemplateWithPlaceholders_whenCompile_thenSplitsIntoSegments() {
+    PlaceholderTemplate compiled =
+        PlaceholderTemplate.compile("a {message} b {context.traceId} c {field}");
+
+    assertThat(compiled.isLiteral()).isFalse();
+    assertThat(compiled.size()).isEqualTo(6);
+
+    assertThat(compiled.kindAt(0)).isEqualTo(PlaceholderTemplate.LITERAL);
+    assertThat(compiled.valueAt(0)).isEqualTo("a ");
+    assertThat(compiled.kindAt(1)).isEqualTo(PlaceholderTemplate.MESSAGE);
+    assertThat(compiled.kindAt(2)).isEqualTo(PlaceholderTemplate.LITERAL);
+    assertThat(compiled.valueAt(2)).isEqualTo(" b ");
+    assertThat(compiled.kindAt(3)).isEqualTo(PlaceholderTemplate.CONTEXT);
+    assertThat(compiled.valueAt(3)).isEqualTo("traceId");
+    assertThat(compiled.kindAt(4)).isEqualTo(PlaceholderTemplate.LITERAL);
+    assertThat(compiled.valueAt(4)).isEqualTo(" c ");
+    assertThat(compiled.kindAt(5)).isEqualTo(PlaceholderTemplate.FIELD);
+    assertThat(compiled.valueAt(5)).isEqualTo("field");
+  }
+
+  @Test
+  void givenOnlyPlaceholder_whenCompile_thenHasSingleSegment() {
+    PlaceholderTemplate compiled = PlaceholderTemplate.compile("{value}");
+
+    assertThat(compiled.size()).isEqualTo(1);
+    assertThat(compiled.kindAt(0)).isEqualTo(PlaceholderTemplate.FIELD);
+    assertThat(compiled.valueAt(0)).isEqualTo("value");
+  }
+
+  @Test
+  void givenNestedOpeningBrace_whenCompile_thenMatchesUpToNearestClosingBrace() {
+    PlaceholderTemplate compiled = PlaceholderTemplate.compile("{a{b}c");
+
+    assertThat(compiled.size()).isEqualTo(2);
+    assertThat(compiled.kindAt(0)).isEqualTo(PlaceholderTemplate.FIELD);
+    assertThat(compiled.valueAt(0)).isEqualTo("a{b");
+    assertThat(compiled.valueAt(1)).isEqualTo("c");
+  }
+
+  @Test
+  void givenSameTemplate_whenOf_thenReturnsCachedInstance() {
+    PlaceholderTemplate first = PlaceholderTemplate.of("cached {message}");
+    PlaceholderTemplate second = PlaceholderTemplate.of("cached {message}");
+
+    assertThat(first).isSameAs(second);
+  }
+
+  @Test
+  void givenLiteralTemplate_whenToUri_thenReturnsSameParsedInstance() {
+    PlaceholderTemplate compiled = PlaceholderTemplate.compile("https://example.org/probs/static");
+
+    URI uri = compiled.toUri();
+
+    assertThat(uri).isEqualTo(URI.create("https://example.org/probs/static"));
+    assertThat(compiled.toUri()).isSameAs(uri);
+  }
+
+  @Test
+  void givenInvalidLiteralTemplate_whenToUri_thenReturnsNull() {
+    PlaceholderTemplate compiled = PlaceholderTemplate.compile("ht tp://invalid");
+
+    assertThat(compiled.toUri()).isNull();
+    assertThat(compiled.toUri()).isNull();
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ProblemBuilderPoolTest {
+
+  @Test
+  void givenReleasedBuilder_whenAcquiring_thenReusesResetBuilder() {
+    ProblemBuilderPool pool = ProblemBuilderPool.create();
+    ProblemBuilder builder = pool.acquire();
+    builder.title("T").status(400).detail("D").extension("key", "value");
+
+    pool.release(builder);
+    ProblemBuilder reused = pool.acquire();
+
+    assertThat(reused).isSameAs(builder);
+    assertThat(reused.build()).isEqualTo(Problem.builder().build());
+  }
+
+  @Test
+  void givenBuiltProblem_whenBuilderReleasedAndReused_thenProblemIsNotAffected() {
+    ProblemBuilderPool pool = ProblemBuilderPool.create();
+    ProblemBuilder builder = pool.acquire();
+    Problem first = builder.oneShot().status(400).extension("key", "value").build();
+
+    pool.release(builder);
+    Problem second = pool.acquire().status(409).extension("other", 1).build();
+
+    assertThat(first.getStatus()).isEqualTo(400);
+    assertThat(first.getExtensions()).isEqualTo(Map.of("key", "value"));
+    assertThat(second.getExtensions()).isEqualTo(Map.of("other", 1));
+  }
+
+  @Test
+  void givenConfigurer_whenBuilding_thenBuildsProblemAndReleasesBuilder() {
+    ProblemBuilderPool pool = ProblemBuilderPool.create();
+
+    Problem problem = pool.build(builder -> builder.status(400).detail("invalid"));
+    Problem next = pool.build(builder -> builder.status(404));
+
+    assertThat(problem).isEqualTo(Problem.of(400, "invalid"));
+    assertThat(next).isEqualTo(Problem.of(404));
+  }
+
+  @Test
+  void givenConfigurerThrowing_whenBuilding_thenReleasesResetBuilder() {
+    ProblemBuilderPool pool = ProblemBuilderPool.create();
+
+    assertThatThrownBy(
+            () ->
+                pool.build(
+                    builder -> {
+                      builder.status(400).detail("partial");
+                      throw new IllegalStateException("boom");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(pool.acquire().build()).isEqualTo(Problem.builder().build());
+  }
+
+  @Test
+  void givenFullPool_whenReleasing_thenBuilderIsDiscarded() {
+    ProblemBuilderPool pool = ProblemBuilderPool.create(1);
+    ProblemBuilder first = pool.acquire();
+    ProblemBuilder second = pool.acquire();
+
+    pool.release(first);
+    pool.release(second);
+
+    assertThat(pool.acquire()).isSameAs(first);
+    assertThat(pool.acquire()).isNotSameAs(second);
+  }
+
+  @Test
+  void givenForeignBuilder_whenReleasing_thenBuilderIsIgnored() {
+    ProblemBuilderPool pool = ProblemBuilderPool.create();
+    ProblemBuilder foreign = new ProblemBuilderStub();
+
+    pool.release(foreign);
+
+    assertThat(pool.acquire()).isNotSameAs(foreign);
+  }
+
+  @Test
+  void givenBuilderNotAcquiredFromPool_whenReleasing_thenBuilderIsIgnored() {
+    ProblemBuilderPool pool = ProblemBuilderPool.create();
+    ProblemBuilderPool other = ProblemBuilderPool.create();
+    ProblemBuilder plain = Problem.builder();
+    ProblemBuilder otherPools = other.acquire();
+
+    pool.release(plain);
+    pool.release(otherPools);
+
+    assertThat(pool.acquire()).isNotSameAs(plain).isNotSameAs(otherPools);
+    other.release(otherPools);
+    assertThat(other.acquire()).isSameAs(otherPools);
+  }
+
+  @Test
+  void givenBuilderReleasedTwice_whenAcquiring_thenBuilderIsHandedOutOnce() {
+    ProblemBuilderPool pool = ProblemBuilderPool.create();
+    ProblemBuilder builder = pool.acquire();
+
+    pool.release(builder);
+    pool.release(builder);
+
+    ProblemBuilder first = pool.acquire();
+    ProblemBuilder second = pool.acquire();
+
+    assertThat(first).isSameAs(builder);
+    assertThat(second).isNotSameAs(builder);
+  }
+
+  @Test
+  void givenNonPositiveCapacity_whenCreating_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> ProblemBuilderPool.create(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void givenConcurrentThreads_whenBuilding_thenEachProblemMatchesItsConfiguration()
+      throws Exception {
+    ProblemBuilderPool pool = ProblemBuilderPool.create(4);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Problem>> futures = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        int index = i;
+        futures.add(
+            executor.submit(
+                () -> pool.build(builder -> builder.status(400).extension("index", index))));
+      }
+
+      for (int i = 0; i < futures.size(); i++) {
+        assertThat(futures.get(i).get().getExtensions()).isEqualTo(Map.of("index", i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void givenBuilderNotSupportingReset_whenResetting_thenThrowsUnsupportedOperationException() {
+    assertThatThrownBy(() -> new ProblemBuilderStub().reset())
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  private static final class ProblemBuilderStub implements ProblemBuilder {
+
+    @Override
+    public ProblemBuilder type(URI type) {
+      return this;
+    }
+
+    @Override
+    public ProblemBuilder title(String title) {
+      return this;
+    }
+
+    @Override
+    public ProblemBuilder status(int status) {
+      return this;
+    }
+
+    @Override
+    public ProblemBuilder detail(String detail) {
+      return this;
+    }
+
+    @Override
+    public ProblemBuilder instance(URI instance) {
+      return this;
+    }
+
+    @Override
+    public ProblemBuilder extension(String name, Object value) {
+      return this;
+    }
+
+    @Override
+    public Problem build() {
+      return Problem.builder().build();
+    }
+  }
+}
@@ -16,10 +16,21 @@
 
 package io.github.problem4j.core;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
-
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -288,4 +299,230 @@ void givenProblemWithEmptyTitleAndStatus_whenCreatingException_thenOnlyStatusInM
 
     assertEquals("(status: 500)", exception.getMessage());
   }
+
+  @Test
+  void givenStacklessException_whenCreated_thenHasNoStackTraceAndIgnoresSuppressed() {
+    Problem problem = Problem.builder().title("Bad Request").status(400).build();
+
+    ProblemException exception = ProblemException.stackless(problem);
+    exception.addSuppressed(new RuntimeException("suppressed"));
+    exception.setStackTrace(new RuntimeException().getStackTrace());
+
+    assertSame(problem, exception.getProblem());
+    assertEquals("Bad Request (status: 400)", exception.getMessage());
+    assertEquals(0, exception.getStackTrace().length);
+    assertEquals(0, exception.getSuppressed().length);
+    assertNull(exception.getCause());
+    assertThrows(IllegalStateException.class, () -> exception.initCause(new RuntimeException()));
+  }
+
+  @Test
+  void givenStacklessExceptionWithCause_whenCreated_thenKeepsCauseWithoutStackTrace() {
+    Problem problem = Problem.builder().title("Bad Request").status(400).build();
+    Throwable cause = new RuntimeException("root");
+
+    ProblemException exception = ProblemException.stackless(problem, cause);
+
+    assertSame(cause, exception.getCause());
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  void givenStatus_whenOfStatus_thenReturnsSharedStacklessException() {
+    ProblemException exception = ProblemException.ofStatus(404);
+
+    assertSame(exception, ProblemException.ofStatus(404));
+    assertSame(Problem.of(404), exception.getProblem());
+    assertEquals(0, exception.getStackTrace().length);
+    assertEquals("Not Found (status: 404)", exception.getMessage());
+  }
+
+  @Test
+  void givenStatusOutOfCachedRange_whenOfStatus_thenReturnsStacklessException() {
+    ProblemException exception = ProblemException.ofStatus(1000);
+
+    assertEquals(1000, exception.getProblem().getStatus());
+    assertEquals(0, exception.getStackTrace().length);
+  }
+
+  @Test
+  void givenException_whenMessageNotRead_thenMessageIsNotComputed() {
+    AtomicInteger titleReads = new AtomicInteger();
+    Problem problem =
+        new Problem() {
+          @Override
+          public String getTitle() {
+            titleReads.incrementAndGet();
+            return "Bad Request";
+          }
+
+          @Override
+          public int getStatus() {
+            return 400;
+          }
+        };
+
+    ProblemException exception = new ProblemException(problem);
+
+    assertEquals(0, titleReads.get());
+    assertEquals("Bad Request (status: 400)", exception.getMessage());
+    assertEquals("Bad Request (status: 400)", exception.getMessage());
+    assertEquals(1, titleReads.get());
+  }
+
+  @Test
+  void givenException_whenToString_thenContainsDerivedMessage() {
+    Problem problem = Problem.builder().title("Bad Request").status(400).build();
+
+    ProblemException exception = new ProblemException(problem, new RuntimeException("root"));
+
+    assertEquals(
+        ProblemException.class.getName() + ": Bad Request (status: 400)", exception.toString());
+  }
+
+  @Test
+  void givenException_whenSerialized_thenDeserializedHasSameMessage() throws Exception {
+    Problem problem = Problem.builder().title("Bad Request").status(400).detail("D").build();
+
+    ProblemException derived = Serialization.roundTrip(new ProblemException(problem));
+    ProblemException custom = Serialization.roundTrip(new ProblemException("custom", problem));
+
+    assertEquals("Bad Request: D (status: 400)", derived.getMessage());
+    assertEquals(problem, derived.getProblem());
+    assertEquals("custom", custom.getMessage());
+  }
+
+  @Test
+  void givenException_whenSerialized_thenSerializedFormContainsDerivedMessage() throws Exception {
+    Problem problem = Problem.builder().title("Bad Request").status(400).detail("D").build();
+    ProblemException exception = new ProblemException(problem, new RuntimeException("root"));
+    exception.addSuppressed(new IllegalStateException("suppressed"));
+
+    byte[] serialized = Serialization.serialize(exception);
+    ProblemException deserialized = Serialization.roundTrip(exception);
+    ProblemException stackless = Serialization.roundTrip(ProblemException.stackless(problem));
+
+    assertTrue(
+        new String(serialized, StandardCharsets.ISO_8859_1)
+            .contains("Bad Request: D (status: 400)"));
+    assertEquals("Bad Request: D (status: 400)", deserialized.getMessage());
+    assertEquals("root", deserialized.getCause().getMessage());
+    assertEquals(1, deserialized.getSuppressed().length);
+    assertArrayEquals(exception.getStackTrace(), deserialized.getStackTrace());
+    assertEquals(0, stackless.getStackTrace().length);
+  }
+
+  @Test
+  void givenSubclassWithoutMessage_whenSerialized_thenSerializedFormHasNoMessage()
+      throws Exception {
+    Problem problem = Problem.builder().title("Bad Request").status(400).detail("D").build();
+    CustomProblemException exception = new CustomProblemException(problem);
+    exception.getMessage();
+
+    byte[] serialized = Serialization.serialize(exception);
+    ProblemException deserialized = Serialization.roundTrip(exception);
+
+    assertFalse(
+        new String(serialized, StandardCharsets.ISO_8859_1)
+            .contains("Bad Request: D (status: 400)"));
+    assertEquals(CustomProblemException.class, deserialized.getClass());
+    assertEquals(problem, deserialized.getProblem());
+    assertEquals("Bad Request: D (status: 400)", deserialized.getMessage());
+  }
+
+  @Test
+  void givenNullProblem_whenCreatingException_thenThrowsNullPointerException() {
+    Throwable cause = new RuntimeException("root");
+
+    assertThrows(NullPointerException.class, () -> new ProblemException(null));
+    assertThrows(NullPointerException.class, () -> new ProblemException("message", null));
+    assertThrows(NullPointerException.class, () -> new ProblemException(null, cause));
+    assertThrows(NullPointerException.class, () -> new ProblemException("message", null, cause));
+    assertThrows(NullPointerException.class, () -> ProblemException.stackless(null));
+  }
+
+  @Test
+  void givenDeferredException_whenProblemNotRead_thenSupplierIsNotCalled() {
+    AtomicInteger calls = new AtomicInteger();
+
+    ProblemException exception =
+        ProblemException.deferred(
+            () -> {
+              calls.incrementAndGet();
+              return Problem.of("Bad Request", 400);
+            });
+
+    assertEquals(0, calls.get());
+    assertEquals("Bad Request (status: 400)", exception.getMessage());
+    assertEquals(400, exception.getProblem().getStatus());
+    assertSame(exception.getProblem(), exception.getProblem());
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void givenDeferredExceptionFromBuilder_whenReadConcurrently_thenSupplierCalledOnce()
+      throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    ProblemBuilder builder = Problem.builder().title("Conflict").status(409);
+    ProblemException exception =
+        ProblemException.deferred(
+            () -> {
+              calls.incrementAndGet();
+              return builder.build();
+            },
+            new RuntimeException("root"));
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Problem>> futures = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        futures.add(executor.submit(exception::getProblem));
+      }
+      for (Future<Problem> future : futures) {
+        assertSame(exception.getProblem(), future.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertEquals(1, calls.get());
+    assertEquals("root", exception.getCause().getMessage());
+  }
+
+  @Test
+  void givenDeferredException_whenSerialized_thenDeserializedHasSuppliedProblem()
+      throws Exception {
+    ProblemException exception = ProblemException.deferred(() -> Problem.of("Not Found", 404));
+
+    ProblemException deserialized = Serialization.roundTrip(exception);
+
+    assertEquals(Problem.of("Not Found", 404), deserialized.getProblem());
+    assertEquals("Not Found (status: 404)", deserialized.getMessage());
+  }
+
+  @Test
+  void givenDeferredExceptionWithFailingSupplier_whenReadAgain_thenSupplierIsRetried() {
+    AtomicInteger calls = new AtomicInteger();
+    ProblemException exception =
+        ProblemException.deferred(
+            () -> {
+              if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("not yet");
+              }
+              return Problem.of(503);
+            });
+
+    assertThrows(IllegalStateException.class, exception::getProblem);
+    assertEquals(503, exception.getProblem().getStatus());
+    assertEquals(2, calls.get());
+  }
+
+  private static class CustomProblemException extends ProblemException {
+
+    private static final long serialVersionUID = 1L;
+
+    private CustomProblemException(Problem problem) {
+      super(problem);
+    }
+  }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ProblemInternerTest {
+
+  @Test
+  void givenEqualProblems_whenInterning_thenReturnsFirstInstance() {
+    ProblemInterner interner = ProblemInterner.create();
+    Problem first = Problem.builder().title("Conflict").status(409).detail("version").build();
+    Problem second = Problem.builder().title("Conflict").status(409).detail("version").build();
+
+    assertThat(interner.intern(first)).isSameAs(first);
+    assertThat(interner.intern(second)).isSameAs(first);
+    assertThat(interner.size()).isEqualTo(1);
+  }
+
+  @Test
+  void givenDifferentProblems_whenInterning_thenEachIsCanonical() {
+    ProblemInterner interner = ProblemInterner.create();
+    Problem first = Problem.builder().status(409).detail("first").build();
+    Problem second = Problem.builder().status(409).detail("second").build();
+
+    assertThat(interner.intern(first)).isSameAs(first);
+    assertThat(interner.intern(second)).isSameAs(second);
+    assertThat(interner.size()).isEqualTo(2);
+  }
+
+  @Test
+  void givenProblemsWithEqualExtensions_whenInterning_thenReturnsFirstInstance() {
+    ProblemInterner interner = ProblemInterner.create();
+    Problem first = Problem.builder().status(400).extension("field", "email").build();
+    Problem second = Problem.builder().status(400).extension("field", "email").build();
+
+    interner.intern(first);
+
+    assertThat(interner.intern(second)).isSameAs(first);
+  }
+
+  @Test
+  void givenInterningCalls_whenGettingStats_thenCountsHitsAndMisses() {
+    ProblemInterner interner = ProblemInterner.create();
+    assertThat(interner.getHitRate()).isEqualTo(0.0);
+
+    for (int i = 0; i < 4; i++) {
+      interner.intern(Problem.builder().status(404).build());
+    }
+
+    assertThat(interner.getMissCount()).isEqualTo(1L);
+    assertThat(interner.getHitCount()).isEqualTo(3L);
+    assertThat(interner.getHitRate()).isEqualTo(0.75);
+  }
+
+  @Test
+  void givenInternedProblems_whenClearing_thenTableAndStatsAreReset() {
+    ProblemInterner interner = ProblemInterner.create();
+    Problem first = interner.intern(Problem.builder().status(500).detail("failure").build());
+    interner.intern(Problem.builder().status(500).detail("failure").build());
+
+    interner.clear();
+    Problem second = Problem.builder().status(500).detail("failure").build();
+
+    assertThat(interner.intern(second)).isSameAs(second).isNotSameAs(first);
+    assertThat(interner.getHitCount()).isEqualTo(0L);
+    assertThat(interner.getMissCount()).isEqualTo(1L);
+  }
+
+  @Test
+  void givenCanonicalProblemNoLongerUsed_whenCollected_thenEntryIsRemoved() throws Exception {
+    ProblemInterner interner = ProblemInterner.create();
+    WeakReference<Problem> reference = internUnreferenced(interner);
+
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    Problem replacement = Problem.builder().status(503).detail("unavailable").build();
+
+    assertThat(reference.get()).isNull();
+    assertThat(interner.intern(replacement)).isSameAs(replacement);
+    assertThat(interner.size()).isEqualTo(1);
+  }
+
+  @Test
+  void givenConcurrentInterning_whenInterningEqualProblems_thenAllGetSameInstance()
+      throws Exception {
+    ProblemInterner interner = ProblemInterner.create();
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Problem>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        futures.add(executor.submit(() -> interner.intern(Problem.builder().status(429).build())));
+      }
+
+      Problem canonical = futures.get(0).get();
+      for (Future<Problem> future : futures) {
+        assertThat(future.get()).isSameAs(canonical);
+      }
+      assertThat(interner.getHitCount() + interner.getMissCount()).isEqualTo(100L);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static WeakReference<Problem> internUnreferenced(ProblemInterner interner) {
+    return new WeakReference<>(
+        interner.intern(Problem.builder().status(503).detail("unavailable").build()));
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class ProblemMappingRegistryTest {
+
+  @Test
+  void givenRegisteredClass_whenFind_thenReturnsEntry() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(TimeoutException.class, ProblemMappingRegistry.definition().status(504));
+
+    ProblemMappingRegistry.Entry entry = registry.find(TimeoutException.class);
+
+    assertThat(entry).isNotNull();
+    assertThat(entry.getDefinition().status()).isEqualTo(504);
+    assertThat(entry.getFunction()).isNull();
+    assertThat(registry.isRegistered(TimeoutException.class)).isTrue();
+  }
+
+  @Test
+  void givenRegisteredSuperclass_whenFind_thenReturnsNearestSuperclassEntry() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(RuntimeException.class, ProblemMappingRegistry.definition().status(500))
+            .register(
+                IllegalArgumentException.class, ProblemMappingRegistry.definition().status(400));
+
+    assertThat(registry.find(NumberFormatException.class).getDefinition().status())
+        .isEqualTo(400);
+    assertThat(registry.find(IllegalStateException.class).getDefinition().status())
+        .isEqualTo(500);
+    assertThat(registry.find(IOException.class)).isNull();
+    assertThat(registry.isRegistered(Exception.class)).isFalse();
+  }
+
+  @Test
+  void givenResolvedClass_whenFindTwice_thenReturnsSameEntry() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(RuntimeException.class, ProblemMappingRegistry.definition().status(500));
+
+    assertThat(registry.find(IllegalStateException.class))
+        .isSameAs(registry.find(IllegalStateException.class));
+  }
+
+  @Test
+  void givenResolvedClass_whenSubclassRegisteredLater_thenFindReturnsNewEntry() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(RuntimeException.class, ProblemMappingRegistry.definition().status(500));
+    assertThat(registry.find(UncheckedIOException.class).getDefinition().status()).isEqualTo(500);
+
+    registry.register(UncheckedIOException.class, ProblemMappingRegistry.definition().status(503));
+
+    assertThat(registry.find(UncheckedIOException.class).getDefinition().status()).isEqualTo(503);
+  }
+
+  @Test
+  void givenRegisteredClass_whenUnregistered_thenFallsBackToSuperclassEntry() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(RuntimeException.class, ProblemMappingRegistry.definition().status(500))
+            .register(
+                IllegalArgumentException.class, ProblemMappingRegistry.definition().status(400));
+    assertThat(registry.find(IllegalArgumentException.class).getDefinition().status())
+        .isEqualTo(400);
+
+    registry.unregister(IllegalArgumentException.class);
+
+    assertThat(registry.find(IllegalArgumentException.class).getDefinition().status())
+        .isEqualTo(500);
+  }
+
+  @Test
+  void givenRegisteredFunction_whenFind_thenReturnsFunctionEntry() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(
+                IllegalStateException.class,
+                (e, context) -> Problem.builder().status(409).detail(e.getMessage()));
+
+    ProblemMappingRegistry.Entry entry = registry.find(IllegalStateException.class);
+
+    assertThat(entry.getDefinition()).isNull();
+    assertThat(entry.getFunction().toProblemBuilder(new IllegalStateException("x"), null).build())
+        .isEqualTo(Problem.builder().status(409).detail("x").build());
+  }
+
+  @Test
+  void givenStaticDefinition_whenRegistered_thenEntryHasPrototype() {
+    ProblemMappingRegistry registry =
+        ProblemMappingRegistry.create()
+            .register(
+                TimeoutException.class, ProblemMappingRegistry.definition().title("T").status(504))
+            .register(
+                IOException.class,
+                ProblemMappingRegistry.definition().title("IO").detail("{message}"));
+
+    assertThat(registry.find(TimeoutException.class).getPrototype()).isNotNull();
+    assertThat(registry.find(IOException.class).getPrototype()).isNull();
+  }
+
+  @Test
+  void givenDefinition_whenComparedWithAnnotation_thenIsEqual() {
+    @ProblemMapping(
+        type = "https://example.org/t",
+        title = "Title",
+        status = 400,
+        detail = "{message}",
+        instance = "https://example.org/i",
+        extensions = {"a", "b"})
+    class AnnotatedException extends RuntimeException {}
+    ProblemMapping annotation = AnnotatedException.class.getAnnotation(ProblemMapping.class);
+
+    ProblemMapping definition =
+        ProblemMappingRegistry.definition()
+            .type("https://example.org/t")
+            .title("Title")
+            .status(400)
+            .detail("{message}")
+            .instance("https://example.org/i")
+            .extensions("a", "b")
+            .build();
+
+    assertThat(definition).isEqualTo(annotation);
+    assertThat(annotation).isEqualTo(definition);
+    assertThat(definition.hashCode()).isEqualTo(annotation.hashCode());
+    assertThat(definition.annotationType()).isEqualTo(ProblemMapping.class);
+  }
+
+  @Test
+  void givenEmptyDefinition_whenBuilt_thenHasAnnotationDefaults() {
+    ProblemMapping definition = ProblemMappingRegistry.definition().build();
+
+    assertThat(definition.type()).isEmpty();
+    assertThat(definition.title()).isEmpty();
+    assertThat(definition.status()).isZero();
+    assertThat(definition.detail()).isEmpty();
+    assertThat(definition.instance()).isEmpty();
+    assertThat(definition.extensions()).isEmpty();
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.DummyProblemMappingProvider.ProvidedException;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import org.junit.jupiter.api.Test;
+
+class ProblemMappingSupportTest {
+
+  @Test
+  void givenAnnotatedClass_whenFindMapping_thenReturnsAnnotation() {
+    @ProblemMapping(title = "Annotated", status = 400)
+    class AnnotatedException extends RuntimeException {}
+
+    ProblemMapping mapping = ProblemMappingSupport.findMapping(AnnotatedException.class);
+
+    assertThat(mapping).isNotNull();
+    assertThat(mapping.title()).isEqualTo("Annotated");
+    assertThat(mapping.status()).isEqualTo(400);
+  }
+
+  @Test
+  void givenAnnotatedClass_whenFindMappingTwice_thenReturnsSameInstance() {
+    @ProblemMapping(title = "Annotated")
+    class AnnotatedException extends RuntimeException {}
+
+    ProblemMapping first = ProblemMappingSupport.findMapping(AnnotatedException.class);
+    ProblemMapping second = ProblemMappingSupport.findMapping(AnnotatedException.class);
+
+    assertThat(first).isSameAs(second);
+  }
+
+  @Test
+  void givenInheritedAnnotation_whenFindMapping_thenReturnsParentAnnotation() {
+    @ProblemMapping(title = "Parent")
+    class ParentException extends RuntimeException {}
+    class ChildException extends ParentException {}
+
+    assertThat(ProblemMappingSupport.findMapping(ChildException.class))
+        .isSameAs(ProblemMappingSupport.findMapping(ParentException.class));
+    assertThat(ProblemMappingSupport.isAnnotated(ChildException.class)).isTrue();
+  }
+
+  @Test
+  void givenUnannotatedClass_whenFindMapping_thenReturnsNull() {
+    class PlainException extends RuntimeException {}
+
+    assertThat(ProblemMappingSupport.findMapping(PlainException.class)).isNull();
+    assertThat(ProblemMappingSupport.isAnnotated(PlainException.class)).isFalse();
+  }
+
+  @Test
+  void givenProviderOfClass_whenFindProvider_thenReturnsItForExactClassOnly() {
+    assertThat(ProblemMappingSupport.findProvider(ProvidedException.class))
+        .isInstanceOf(DummyProblemMappingProvider.class);
+    assertThat(ProblemMappingSupport.findProvider(RuntimeException.class)).isNull();
+  }
+
+  @Test
+  void givenBrokenServiceEntry_whenLoadProvider_thenSkipsItAndLoadsOthers() throws Exception {
+    Path services = Files.createTempFile("services", ".txt");
+    Files.write(
+        services,
+        Arrays.asList(
+            "io.github.problem4j.core.MissingProvider",
+            DummyProblemMappingProvider.class.getName()));
+    URL url = services.toUri().toURL();
+    ClassLoader loader =
+        new ClassLoader(getClass().getClassLoader()) {
+          @Override
+          public Enumeration<URL> getResources(String name) throws IOException {
+            return name.endsWith(ProblemMappingProvider.class.getName())
+                ? Collections.enumeration(Collections.singletonList(url))
+                : super.getResources(name);
+          }
+        };
+
+    try {
+      assertThat(ProblemMappingSupport.loadProvider(ProvidedException.class, loader))
+          .isInstanceOf(DummyProblemMappingProvider.class);
+      assertThat(ProblemMappingSupport.loadProvider(RuntimeException.class, loader)).isNull();
+    } finally {
+      Files.delete(services);
+    }
+  }
+}
@@ -17,7 +17,10 @@
 package io.github.problem4j.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.net.URI;
 import org.junit.jupiter.api.Test;
 
@@ -379,4 +382,70 @@ void givenBlankType_whenIsTypeNonBlank_thenFalse() {
   void givenEmptyUriType_whenIsTypeNonBlank_thenFalse() {
     assertThat(ProblemSupport.isTypeNonBlank(URI.create(""))).isFalse();
   }
+
+  @Test
+  void givenProblem_whenAppendTo_thenWritesSameAsToString() throws IOException {
+    Problem p =
+        Problem.builder()
+            .type("urn:type")
+            .title("T")
+            .status(400)
+            .detail("D")
+            .instance("urn:inst")
+            .extension("z", "last")
+            .extension("a", 1)
+            .build();
+    StringBuilder builder = new StringBuilder("prefix ");
+
+    StringBuilder result = ProblemSupport.appendTo(builder, p);
+
+    assertThat(result).isSameAs(builder);
+    assertThat(result.toString()).isEqualTo("prefix " + ProblemSupport.toString(p));
+    assertThat(ProblemSupport.toString("Problem", p))
+        .isEqualTo(
+            "Problem[type=urn:type, title=T, status=400, detail=D, instance=urn:inst, "
+                + "a=1, z=last]");
+  }
+
+  @Test
+  void givenWriter_whenAppendToWithLabel_thenWritesSameAsToStringWithLabel() throws IOException {
+    Problem p = Problem.builder().title("T").status(400).extension("key", "value").build();
+
+    StringWriter writer = ProblemSupport.appendTo(new StringWriter(), "Problem", p);
+
+    assertThat(writer.toString()).isEqualTo("Problem[title=T, status=400, key=value]");
+  }
+
+  @Test
+  void givenFailingAppendable_whenAppendTo_thenPropagatesIOException() {
+    Problem p = Problem.builder().title("T").status(400).build();
+    Appendable failing =
+        new Appendable() {
+          @Override
+          public Appendable append(CharSequence csq) throws IOException {
+            throw new IOException("closed");
+          }
+
+          @Override
+          public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            throw new IOException("closed");
+          }
+
+          @Override
+          public Appendable append(char c) throws IOException {
+            throw new IOException("closed");
+          }
+        };
+
+    assertThatThrownBy(() -> ProblemSupport.appendTo(failing, p))
+        .isInstanceOf(IOException.class)
+        .hasMessage("closed");
+  }
+
+  @Test
+  void givenContextWithManyEntries_whenToStringWithLabel_thenEntriesSortedByKey() {
+    ProblemContext context = ProblemContext.create().put("b", "2").put("c", "3").put("a", "1");
+
+    assertThat(ProblemSupport.toString("Ctx", context)).isEqualTo("Ctx[a=1, b=2, c=3]");
+  }
 }
@@ -35,6 +35,25 @@ void givenIntStatus_shouldSetStatus() {
     assertThat(problem.getStatus()).isEqualTo(207);
   }
 
+  @Test
+  void givenSameIntStatus_whenCreatingTwice_thenReturnsSameInstance() {
+    assertThat(Problem.of(409)).isSameAs(Problem.of(409));
+    assertThat(Problem.of(409)).isEqualTo(Problem.builder().title("Conflict").status(409).build());
+  }
+
+  @Test
+  void givenStatusKnownToActiveResolver_whenCreating_thenUsesResolvedTitle() {
+    Problem problem = Problem.of(DummyStatusTitleResolver.STATUS_THIS_IS_FINE);
+
+    assertThat(problem.getTitle()).isEqualTo("This is Fine");
+  }
+
+  @Test
+  void givenStatusOutsideCachedRange_whenCreating_thenReturnsEqualProblems() {
+    assertThat(Problem.of(1000)).isEqualTo(Problem.of(1000));
+    assertThat(Problem.of(-1).getTitle()).isEqualTo(Problem.UNKNOWN_TITLE);
+  }
+
   @Test
   void givenStatusAndDetail_shouldSetFields() {
     Problem problem = Problem.of(400, "bad input");
@@ -33,14 +33,25 @@ final class Serialization {
    */
   @SuppressWarnings("unchecked")
   static <T> T roundTrip(T obj) throws Exception {
+    try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(serialize(obj)))) {
+      return (T) ois.readObject();
+    }
+  }
+
+  /**
+   * Serializes an object, returning its serialized form. This is useful for testing what the
+   * serialized form contains, as read by other versions of the library.
+   *
+   * @param obj the object to serialize
+   * @return the serialized form of the object
+   * @throws Exception if an error occurs during serialization
+   */
+  static byte[] serialize(Object obj) throws Exception {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
     try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
       oos.writeObject(obj);
     }
-    try (ObjectInputStream ois =
-        new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
-      return (T) ois.readObject();
-    }
+    return baos.toByteArray();
   }
 
   private Serialization() {}
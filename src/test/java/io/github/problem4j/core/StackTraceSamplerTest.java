@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class StackTraceSamplerTest {
+
+  @Test
+  void givenEveryNthSampler_whenDeciding_thenCapturesFirstAndEveryNthPerStatus() {
+    StackTraceSampler sampler = StackTraceSampler.everyNth(3);
+
+    List<Boolean> decisions = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      decisions.add(sampler.shouldCapture(Problem.of(500)));
+    }
+
+    assertThat(decisions).containsExactly(true, false, false, true, false, false, true);
+    assertThat(sampler.shouldCapture(Problem.of(503))).isTrue();
+    assertThat(sampler.getSampledCount()).isEqualTo(4L);
+    assertThat(sampler.getSkippedCount()).isEqualTo(4L);
+  }
+
+  @Test
+  void givenProblemsWithTypes_whenDeciding_thenCountsPerTypeRegardlessOfStatus() {
+    StackTraceSampler sampler = StackTraceSampler.everyNth(2);
+    Problem first = Problem.builder().type("urn:first").status(500).build();
+    Problem second = Problem.builder().type("urn:second").status(500).build();
+
+    assertThat(sampler.shouldCapture(first)).isTrue();
+    assertThat(sampler.shouldCapture(second)).isTrue();
+    assertThat(sampler.shouldCapture(Problem.of(500))).isTrue();
+    assertThat(sampler.shouldCapture(first)).isFalse();
+    assertThat(sampler.shouldCapture(Problem.of(1500))).isTrue();
+    assertThat(sampler.shouldCapture(Problem.of(1500))).isFalse();
+  }
+
+  @Test
+  void givenWindowSampler_whenDeciding_thenCapturesFirstPerWindow() {
+    AtomicLong clock = new AtomicLong(1_000);
+    StackTraceSampler sampler =
+        StackTraceSampler.firstPerWindow(2, Duration.ofNanos(100), clock::get);
+
+    assertThat(sampler.shouldCapture(Problem.of(500))).isTrue();
+    assertThat(sampler.shouldCapture(Problem.of(500))).isTrue();
+    assertThat(sampler.shouldCapture(Problem.of(500))).isFalse();
+    assertThat(sampler.shouldCapture(Problem.of(502))).isTrue();
+
+    clock.addAndGet(150);
+
+    assertThat(sampler.shouldCapture(Problem.of(500))).isTrue();
+    assertThat(sampler.shouldCapture(Problem.of(500))).isTrue();
+    assertThat(sampler.shouldCapture(Problem.of(500))).isFalse();
+    assertThat(sampler.getSampledCount()).isEqualTo(5L);
+    assertThat(sampler.getSkippedCount()).isEqualTo(2L);
+  }
+
+  @Test
+  void givenWindowIndexBeyondCounterBits_whenDeciding_thenStillCapturesFirstPerWindow() {
+    AtomicLong clock = new AtomicLong();
+    StackTraceSampler sampler =
+        StackTraceSampler.firstPerWindow(1, Duration.ofNanos(1), clock::get);
+
+    clock.set((1L << 41) + 5);
+
+    assertThat(sampler.shouldCapture(Problem.of(500))).isTrue();
+    assertThat(sampler.shouldCapture(Problem.of(500))).isFalse();
+
+    clock.incrementAndGet();
+
+    assertThat(sampler.shouldCapture(Problem.of(500))).isTrue();
+    assertThat(sampler.shouldCapture(Problem.of(500))).isFalse();
+  }
+
+  @Test
+  void givenWindowSamplerWithZeroLimit_whenDeciding_thenNeverCaptures() {
+    AtomicLong clock = new AtomicLong();
+    StackTraceSampler sampler =
+        StackTraceSampler.firstPerWindow(0, Duration.ofNanos(10), clock::get);
+
+    assertThat(sampler.shouldCapture(Problem.of(500))).isFalse();
+    clock.addAndGet(20);
+    assertThat(sampler.shouldCapture(Problem.of(500))).isFalse();
+  }
+
+  @Test
+  void givenInvalidArguments_whenCreatingSampler_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> StackTraceSampler.everyNth(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> StackTraceSampler.firstPerWindow(-1, Duration.ofSeconds(1)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> StackTraceSampler.firstPerWindow(1, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void givenConcurrentDecisions_whenDeciding_thenSamplesExactlyEveryNth() throws Exception {
+    StackTraceSampler sampler = StackTraceSampler.everyNth(10);
+    int threads = 8;
+    int perThread = 1_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < perThread; i++) {
+                    sampler.shouldCapture(Problem.of(500));
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(sampler.getSampledCount()).isEqualTo(threads * perThread / 10L);
+    assertThat(sampler.getSkippedCount()).isEqualTo(threads * perThread * 9 / 10L);
+  }
+
+  @Test
+  void givenSampler_whenCreatingSampledExceptions_thenOnlySampledHaveStackTrace() {
+    StackTraceSampler sampler = StackTraceSampler.everyNth(2);
+    Problem problem = Problem.of(500);
+
+    ProblemException captured = ProblemException.sampled(problem, sampler);
+    ProblemException skipped = ProblemException.sampled(problem, new RuntimeException(), sampler);
+
+    assertThat(captured.getStackTrace()).isNotEmpty();
+    assertThat(skipped.getStackTrace()).isEmpty();
+    assertThat(skipped.getCause()).isInstanceOf(RuntimeException.class);
+    assertThat(captured.getProblem()).isSameAs(problem);
+  }
+}
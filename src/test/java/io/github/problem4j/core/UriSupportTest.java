@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025-2026 The Problem4J Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.github.problem4j.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+
+class UriSupportTest {
+
+  @Test
+  void givenValidValue_whenParse_thenReturnsUri() {
+    URI uri = UriSupport.parse("https://example.org/items/1");
+
+    assertThat(uri).isEqualTo(URI.create("https://example.org/items/1"));
+  }
+
+  @Test
+  void givenSameValueTwice_whenParse_thenReturnsSameInstance() {
+    URI first = UriSupport.parse("https://example.org/items/2");
+    URI second = UriSupport.parse("https://example.org/items/2");
+
+    assertThat(first).isSameAs(second);
+  }
+
+  @Test
+  void givenInvalidValue_whenParse_thenReturnsNull() {
+    assertThat(UriSupport.parse("ht tp://invalid")).isNull();
+    assertThat(UriSupport.parse("ht tp://invalid")).isNull();
+  }
+
+  @Test
+  void givenManyDistinctValues_whenParse_thenKeepsParsingCorrectly() {
+    for (int i = 0; i < 3000; i++) {
+      assertThat(UriSupport.parse("https://example.org/items/" + i))
+          .isEqualTo(URI.create("https://example.org/items/" + i));
+    }
+  }
+
+  @Test
+  void givenInvalidValue_whenParseUncached_thenReturnsInvalidMarker() {
+    assertThat(UriSupport.isValid(UriSupport.parseUncached("ht tp://invalid"))).isFalse();
+    assertThat(UriSupport.isValid(UriSupport.parseUncached("urn:problem4j:invalid"))).isTrue();
+  }
+}